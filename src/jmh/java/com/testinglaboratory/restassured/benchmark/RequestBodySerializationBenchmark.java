@@ -0,0 +1,91 @@
+package com.testinglaboratory.restassured.benchmark;
+
+import com.google.gson.JsonObject;
+import com.testinglaboratory.restassured.primer.User;
+import io.restassured.http.ContentType;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Serializing the same credentials the four ways the suites build request bodies.
+ * RestAssured serializes the body when it is set, so each benchmark returns the body the request would send.
+ * {@link #preSerializedString()} is the floor: the cost of the specification alone.
+ * Run with -prof gc to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestBodySerializationBenchmark {
+    private static final String USERNAME = "jan.kowalski.k3f9a2";
+    private static final String PASSWORD = "bqhzvvatgq24s";
+
+    private String json;
+    private JSONObject orgJson;
+    private JsonObject gson;
+    private User pojo;
+
+    @Setup
+    public void setUp() {
+        json = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", USERNAME, PASSWORD);
+        orgJson = new JSONObject();
+        orgJson.put("username", USERNAME);
+        orgJson.put("password", PASSWORD);
+        gson = new JsonObject();
+        gson.addProperty("username", USERNAME);
+        gson.addProperty("password", PASSWORD);
+        pojo = new User(USERNAME, PASSWORD);
+    }
+
+    @Benchmark
+    public Object preSerializedString() {
+        return body(json);
+    }
+
+    /**
+     * RegistrationTest
+     */
+    @Benchmark
+    public Object mapOf() {
+        return body(Map.of("username", USERNAME, "password", PASSWORD));
+    }
+
+    /**
+     * CookiesTest
+     */
+    @Benchmark
+    public Object gsonJsonObject() {
+        return body(gson);
+    }
+
+    /**
+     * AlterHumanTest
+     */
+    @Benchmark
+    public Object orgJsonToMap() {
+        return body(orgJson.toMap());
+    }
+
+    /**
+     * LoginTest
+     */
+    @Benchmark
+    public Object pojo() {
+        return body(pojo);
+    }
+
+    private static Object body(Object body) {
+        return ((FilterableRequestSpecification) given().contentType(ContentType.JSON).body(body)).getBody();
+    }
+}
@@ -0,0 +1,61 @@
+package com.testinglaboratory.restassured.benchmark;
+
+import com.google.gson.JsonObject;
+import com.testinglaboratory.restassured.support.json.CompiledPath;
+import com.testinglaboratory.restassured.support.json.ParsedDocument;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a /human/{id} response body the ways AlterHumanTest does, plus a single JsonPath lookup
+ * and the same lookup through a {@link ParsedDocument} for comparison.
+ * The response is built in memory, so only deserialization is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseDeserializationBenchmark {
+    private static final CompiledPath LAST_NAME = CompiledPath.of("human.last_name");
+
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType(ContentType.JSON)
+                .setBody("{\"human\":{\"id\":2,\"first_name\":\"Maryna\",\"last_name\":\"Pawlik\"}}")
+                .build();
+    }
+
+    @Benchmark
+    public JSONObject asOrgJsonObject() {
+        return response.as(JSONObject.class);
+    }
+
+    @Benchmark
+    public JsonObject asGsonJsonObject() {
+        return response.as(JsonObject.class);
+    }
+
+    @Benchmark
+    public String jsonPathLastName() {
+        return response.jsonPath().getString("human.last_name");
+    }
+
+    @Benchmark
+    public String parsedDocumentLastName() {
+        return ParsedDocument.of(response).getString(LAST_NAME);
+    }
+}
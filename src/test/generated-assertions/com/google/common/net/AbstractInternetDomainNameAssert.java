@@ -352,13 +352,11 @@ public abstract class AbstractInternetDomainNameAssert<S extends AbstractInterne
     // check that actual InternetDomainName we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualName = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("name", String.class, actual);
     if (!Objects.deepEquals(actualName, name)) {
-      failWithMessage(assertjErrorMessage, actual, name, actualName);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, name, actualName);
     }
 
     // return the current assertion for method chaining
@@ -528,13 +526,11 @@ public abstract class AbstractInternetDomainNameAssert<S extends AbstractInterne
     // check that actual InternetDomainName we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting publicSuffixIndex of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualPublicSuffixIndex = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("publicSuffixIndex", int.class, actual);
     if (actualPublicSuffixIndex != publicSuffixIndex) {
-      failWithMessage(assertjErrorMessage, actual, publicSuffixIndex, actualPublicSuffixIndex);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting publicSuffixIndex of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, publicSuffixIndex, actualPublicSuffixIndex);
     }
 
     // return the current assertion for method chaining
@@ -551,13 +547,11 @@ public abstract class AbstractInternetDomainNameAssert<S extends AbstractInterne
     // check that actual InternetDomainName we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting registrySuffixIndex of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualRegistrySuffixIndex = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("registrySuffixIndex", int.class, actual);
     if (actualRegistrySuffixIndex != registrySuffixIndex) {
-      failWithMessage(assertjErrorMessage, actual, registrySuffixIndex, actualRegistrySuffixIndex);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting registrySuffixIndex of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, registrySuffixIndex, actualRegistrySuffixIndex);
     }
 
     // return the current assertion for method chaining
@@ -334,13 +334,11 @@ public abstract class AbstractContextedRuntimeExceptionAssert<S extends Abstract
     // check that actual ContextedRuntimeException we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting message of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualMessage = actual.getMessage();
     if (!Objects.deepEquals(actualMessage, message)) {
-      failWithMessage(assertjErrorMessage, actual, message, actualMessage);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting message of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, message, actualMessage);
     }
 
     // return the current assertion for method chaining
@@ -357,13 +355,11 @@ public abstract class AbstractContextedRuntimeExceptionAssert<S extends Abstract
     // check that actual ContextedRuntimeException we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting rawMessage of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualRawMessage = actual.getRawMessage();
     if (!Objects.deepEquals(actualRawMessage, rawMessage)) {
-      failWithMessage(assertjErrorMessage, actual, rawMessage, actualRawMessage);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting rawMessage of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, rawMessage, actualRawMessage);
     }
 
     // return the current assertion for method chaining
@@ -380,13 +376,11 @@ public abstract class AbstractContextedRuntimeExceptionAssert<S extends Abstract
     // check that actual ContextedRuntimeException we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting exceptionContext of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     ExceptionContext actualExceptionContext = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("exceptionContext", ExceptionContext.class, actual);
     if (!Objects.deepEquals(actualExceptionContext, exceptionContext)) {
-      failWithMessage(assertjErrorMessage, actual, exceptionContext, actualExceptionContext);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting exceptionContext of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, exceptionContext, actualExceptionContext);
     }
 
     // return the current assertion for method chaining
@@ -27,13 +27,11 @@ public abstract class AbstractArtWorkAssert<S extends AbstractArtWorkAssert<S, A
     // check that actual ArtWork we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting creator of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualCreator = actual.getCreator();
     if (!Objects.deepEquals(actualCreator, creator)) {
-      failWithMessage(assertjErrorMessage, actual, creator, actualCreator);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting creator of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, creator, actualCreator);
     }
 
     // return the current assertion for method chaining
@@ -29,13 +29,11 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting assistsPerGame of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualAssistsPerGame = actual.getAssistsPerGame();
     if (actualAssistsPerGame != assistsPerGame) {
-      failWithMessage(assertjErrorMessage, actual, assistsPerGame, actualAssistsPerGame);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting assistsPerGame of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, assistsPerGame, actualAssistsPerGame);
     }
 
     // return the current assertion for method chaining
@@ -53,13 +51,11 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     Name actualName = actual.getName();
     if (!Objects.deepEquals(actualName, name)) {
-      failWithMessage(assertjErrorMessage, actual, name, actualName);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, name, actualName);
     }
 
     // return the current assertion for method chaining
@@ -229,13 +225,11 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting pointsPerGame of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualPointsPerGame = actual.getPointsPerGame();
     if (actualPointsPerGame != pointsPerGame) {
-      failWithMessage(assertjErrorMessage, actual, pointsPerGame, actualPointsPerGame);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting pointsPerGame of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, pointsPerGame, actualPointsPerGame);
     }
 
     // return the current assertion for method chaining
@@ -252,13 +246,11 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting reboundsPerGame of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualReboundsPerGame = actual.getReboundsPerGame();
     if (actualReboundsPerGame != reboundsPerGame) {
-      failWithMessage(assertjErrorMessage, actual, reboundsPerGame, actualReboundsPerGame);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting reboundsPerGame of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, reboundsPerGame, actualReboundsPerGame);
     }
 
     // return the current assertion for method chaining
@@ -311,13 +303,11 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting team of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualTeam = actual.getTeam();
     if (!Objects.deepEquals(actualTeam, team)) {
-      failWithMessage(assertjErrorMessage, actual, team, actualTeam);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting team of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, team, actualTeam);
     }
 
     // return the current assertion for method chaining
@@ -487,13 +477,11 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting weight of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check value for weight
+    // primitive check, no boxing
     float actualWeight = actual.getWeight();
     if (actualWeight != weight) {
-      failWithMessage(assertjErrorMessage, actual, weight, actualWeight);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting weight of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, weight, actualWeight);
     }
 
     // return the current assertion for method chaining
@@ -513,14 +501,18 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    float actualWeight = actual.getWeight();
-
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = String.format("\nExpecting weight:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
-                                               actualWeight, weight, assertjOffset, Math.abs(weight - actualWeight));
+    // same contract as Assertions.within(assertjOffset), rejects negative and NaN offsets
+    if (!(assertjOffset >= 0)) {
+      throw new IllegalArgumentException("An offset value should be greater than or equal to zero but was " + assertjOffset);
+    }
 
-    // check
-    Assertions.assertThat(actualWeight).overridingErrorMessage(assertjErrorMessage).isCloseTo(weight, Assertions.within(assertjOffset));
+    // primitive check, no boxing; NaN and infinities are only close to themselves
+    float actualWeight = actual.getWeight();
+    if (Double.compare(actualWeight, weight) != 0 && !(Math.abs(weight - actualWeight) <= assertjOffset)) {
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting weight:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
+                      actualWeight, weight, assertjOffset, Math.abs(weight - actualWeight));
+    }
 
     // return the current assertion for method chaining
     return myself;
@@ -536,13 +528,11 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting size of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check value for size
+    // primitive check, no boxing
     double actualSize = actual.size;
     if (actualSize != size) {
-      failWithMessage(assertjErrorMessage, actual, size, actualSize);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting size of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, size, actualSize);
     }
 
     // return the current assertion for method chaining
@@ -562,14 +552,18 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
     // check that actual BasketBallPlayer we want to make assertions on is not null.
     isNotNull();
 
-    double actualSize = actual.size;
-
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = String.format("\nExpecting size:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
-                                               actualSize, size, assertjOffset, Math.abs(size - actualSize));
+    // same contract as Assertions.within(assertjOffset), rejects negative and NaN offsets
+    if (!(assertjOffset >= 0)) {
+      throw new IllegalArgumentException("An offset value should be greater than or equal to zero but was " + assertjOffset);
+    }
 
-    // check
-    Assertions.assertThat(actualSize).overridingErrorMessage(assertjErrorMessage).isCloseTo(size, Assertions.within(assertjOffset));
+    // primitive check, no boxing; NaN and infinities are only close to themselves
+    double actualSize = actual.size;
+    if (Double.compare(actualSize, size) != 0 && !(Math.abs(size - actualSize) <= assertjOffset)) {
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting size:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
+                      actualSize, size, assertjOffset, Math.abs(size - actualSize));
+    }
 
     // return the current assertion for method chaining
     return myself;
@@ -28,13 +28,11 @@ public abstract class AbstractBookAssert<S extends AbstractBookAssert<S, A>, A e
     // check that actual Book we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting numberOfPages of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualNumberOfPages = actual.getNumberOfPages();
     if (actualNumberOfPages != numberOfPages) {
-      failWithMessage(assertjErrorMessage, actual, numberOfPages, actualNumberOfPages);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting numberOfPages of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, numberOfPages, actualNumberOfPages);
     }
 
     // return the current assertion for method chaining
@@ -51,13 +49,11 @@ public abstract class AbstractBookAssert<S extends AbstractBookAssert<S, A>, A e
     // check that actual Book we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting pryce of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check value for pryce
+    // primitive check, no boxing
     double actualPryce = actual.getPryce();
     if (actualPryce != pryce) {
-      failWithMessage(assertjErrorMessage, actual, pryce, actualPryce);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting pryce of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, pryce, actualPryce);
     }
 
     // return the current assertion for method chaining
@@ -77,14 +73,18 @@ public abstract class AbstractBookAssert<S extends AbstractBookAssert<S, A>, A e
     // check that actual Book we want to make assertions on is not null.
     isNotNull();
 
-    double actualPryce = actual.getPryce();
-
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = String.format("\nExpecting pryce:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
-                                               actualPryce, pryce, assertjOffset, Math.abs(pryce - actualPryce));
+    // same contract as Assertions.within(assertjOffset), rejects negative and NaN offsets
+    if (!(assertjOffset >= 0)) {
+      throw new IllegalArgumentException("An offset value should be greater than or equal to zero but was " + assertjOffset);
+    }
 
-    // check
-    Assertions.assertThat(actualPryce).overridingErrorMessage(assertjErrorMessage).isCloseTo(pryce, Assertions.within(assertjOffset));
+    // primitive check, no boxing; NaN and infinities are only close to themselves
+    double actualPryce = actual.getPryce();
+    if (Double.compare(actualPryce, pryce) != 0 && !(Math.abs(pryce - actualPryce) <= assertjOffset)) {
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting pryce:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
+                      actualPryce, pryce, assertjOffset, Math.abs(pryce - actualPryce));
+    }
 
     // return the current assertion for method chaining
     return myself;
@@ -100,13 +100,11 @@ public abstract class AbstractBookAssert<S extends AbstractBookAssert<S, A>, A e
     // check that actual Book we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting title of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     Book.Title actualTitle = actual.getTitle();
     if (!Objects.deepEquals(actualTitle, title)) {
-      failWithMessage(assertjErrorMessage, actual, title, actualTitle);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting title of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, title, actualTitle);
     }
 
     // return the current assertion for method chaining
@@ -123,13 +121,11 @@ public abstract class AbstractBookAssert<S extends AbstractBookAssert<S, A>, A e
     // check that actual Book we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting realAuthor of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualRealAuthor = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("realAuthor", String.class, actual);
     if (!Objects.deepEquals(actualRealAuthor, realAuthor)) {
-      failWithMessage(assertjErrorMessage, actual, realAuthor, actualRealAuthor);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting realAuthor of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, realAuthor, actualRealAuthor);
     }
 
     // return the current assertion for method chaining
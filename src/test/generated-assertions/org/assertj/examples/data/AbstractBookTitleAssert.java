@@ -27,13 +27,11 @@ public abstract class AbstractBookTitleAssert<S extends AbstractBookTitleAssert<
     // check that actual Book.Title we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting title of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualTitle = actual.getTitle();
     if (!Objects.deepEquals(actualTitle, title)) {
-      failWithMessage(assertjErrorMessage, actual, title, actualTitle);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting title of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, title, actualTitle);
     }
 
     // return the current assertion for method chaining
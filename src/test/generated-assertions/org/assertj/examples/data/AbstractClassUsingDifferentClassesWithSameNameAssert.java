@@ -27,13 +27,11 @@ public abstract class AbstractClassUsingDifferentClassesWithSameNameAssert<S ext
     // check that actual ClassUsingDifferentClassesWithSameName we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting movieTeam of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     org.assertj.examples.data.movie.Team actualMovieTeam = actual.getMovieTeam();
     if (!Objects.deepEquals(actualMovieTeam, movieTeam)) {
-      failWithMessage(assertjErrorMessage, actual, movieTeam, actualMovieTeam);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting movieTeam of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, movieTeam, actualMovieTeam);
     }
 
     // return the current assertion for method chaining
@@ -50,13 +48,11 @@ public abstract class AbstractClassUsingDifferentClassesWithSameNameAssert<S ext
     // check that actual ClassUsingDifferentClassesWithSameName we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting team of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     Team actualTeam = actual.getTeam();
     if (!Objects.deepEquals(actualTeam, team)) {
-      failWithMessage(assertjErrorMessage, actual, team, actualTeam);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting team of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, team, actualTeam);
     }
 
     // return the current assertion for method chaining
@@ -26,13 +26,11 @@ public abstract class AbstractEmployeeAssert<S extends AbstractEmployeeAssert<S,
     // check that actual Employee we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting company of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualCompany = actual.getCompany();
     if (!Objects.deepEquals(actualCompany, company)) {
-      failWithMessage(assertjErrorMessage, actual, company, actualCompany);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting company of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, company, actualCompany);
     }
 
     // return the current assertion for method chaining
@@ -49,13 +47,11 @@ public abstract class AbstractEmployeeAssert<S extends AbstractEmployeeAssert<S,
     // check that actual Employee we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting rank of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualRank = actual.rank;
     if (!Objects.deepEquals(actualRank, rank)) {
-      failWithMessage(assertjErrorMessage, actual, rank, actualRank);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting rank of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, rank, actualRank);
     }
 
     // return the current assertion for method chaining
@@ -26,13 +26,11 @@ public abstract class AbstractEmployeeOfTheMonthAssert<S extends AbstractEmploye
     // check that actual EmployeeOfTheMonth we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting month of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualMonth = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("month", String.class, actual);
     if (!Objects.deepEquals(actualMonth, month)) {
-      failWithMessage(assertjErrorMessage, actual, month, actualMonth);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting month of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, month, actualMonth);
     }
 
     // return the current assertion for method chaining
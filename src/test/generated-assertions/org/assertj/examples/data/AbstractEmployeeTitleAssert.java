@@ -27,13 +27,11 @@ public abstract class AbstractEmployeeTitleAssert<S extends AbstractEmployeeTitl
     // check that actual Employee.Title we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting position of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualPosition = actual.getPosition();
     if (!Objects.deepEquals(actualPosition, position)) {
-      failWithMessage(assertjErrorMessage, actual, position, actualPosition);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting position of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, position, actualPosition);
     }
 
     // return the current assertion for method chaining
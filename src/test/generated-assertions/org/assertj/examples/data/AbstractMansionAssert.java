@@ -27,13 +27,11 @@ public abstract class AbstractMansionAssert<S extends AbstractMansionAssert<S, A
     // check that actual Mansion we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting candlestick of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualCandlestick = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("candlestick", String.class, actual);
     if (!Objects.deepEquals(actualCandlestick, candlestick)) {
-      failWithMessage(assertjErrorMessage, actual, candlestick, actualCandlestick);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting candlestick of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, candlestick, actualCandlestick);
     }
 
     // return the current assertion for method chaining
@@ -50,13 +48,11 @@ public abstract class AbstractMansionAssert<S extends AbstractMansionAssert<S, A
     // check that actual Mansion we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting colonel of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualColonel = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("colonel", String.class, actual);
     if (!Objects.deepEquals(actualColonel, colonel)) {
-      failWithMessage(assertjErrorMessage, actual, colonel, actualColonel);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting colonel of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, colonel, actualColonel);
     }
 
     // return the current assertion for method chaining
@@ -73,13 +69,11 @@ public abstract class AbstractMansionAssert<S extends AbstractMansionAssert<S, A
     // check that actual Mansion we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting guests of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualGuests = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("guests", int.class, actual);
     if (actualGuests != guests) {
-      failWithMessage(assertjErrorMessage, actual, guests, actualGuests);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting guests of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, guests, actualGuests);
     }
 
     // return the current assertion for method chaining
@@ -96,13 +90,11 @@ public abstract class AbstractMansionAssert<S extends AbstractMansionAssert<S, A
     // check that actual Mansion we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting kitchen of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualKitchen = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("kitchen", String.class, actual);
     if (!Objects.deepEquals(actualKitchen, kitchen)) {
-      failWithMessage(assertjErrorMessage, actual, kitchen, actualKitchen);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting kitchen of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, kitchen, actualKitchen);
     }
 
     // return the current assertion for method chaining
@@ -119,13 +111,11 @@ public abstract class AbstractMansionAssert<S extends AbstractMansionAssert<S, A
     // check that actual Mansion we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting library of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualLibrary = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("library", String.class, actual);
     if (!Objects.deepEquals(actualLibrary, library)) {
-      failWithMessage(assertjErrorMessage, actual, library, actualLibrary);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting library of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, library, actualLibrary);
     }
 
     // return the current assertion for method chaining
@@ -142,13 +132,11 @@ public abstract class AbstractMansionAssert<S extends AbstractMansionAssert<S, A
     // check that actual Mansion we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting professor of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualProfessor = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("professor", String.class, actual);
     if (!Objects.deepEquals(actualProfessor, professor)) {
-      failWithMessage(assertjErrorMessage, actual, professor, actualProfessor);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting professor of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, professor, actualProfessor);
     }
 
     // return the current assertion for method chaining
@@ -165,13 +153,11 @@ public abstract class AbstractMansionAssert<S extends AbstractMansionAssert<S, A
     // check that actual Mansion we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting revolverAmmo of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualRevolverAmmo = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("revolverAmmo", int.class, actual);
     if (actualRevolverAmmo != revolverAmmo) {
-      failWithMessage(assertjErrorMessage, actual, revolverAmmo, actualRevolverAmmo);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting revolverAmmo of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, revolverAmmo, actualRevolverAmmo);
     }
 
     // return the current assertion for method chaining
@@ -27,13 +27,11 @@ public abstract class AbstractNameAssert<S extends AbstractNameAssert<S, A>, A e
     // check that actual Name we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting first of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualFirst = actual.getFirst();
     if (!Objects.deepEquals(actualFirst, first)) {
-      failWithMessage(assertjErrorMessage, actual, first, actualFirst);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting first of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, first, actualFirst);
     }
 
     // return the current assertion for method chaining
@@ -50,13 +48,11 @@ public abstract class AbstractNameAssert<S extends AbstractNameAssert<S, A>, A e
     // check that actual Name we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting last of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualLast = actual.getLast();
     if (!Objects.deepEquals(actualLast, last)) {
-      failWithMessage(assertjErrorMessage, actual, last, actualLast);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting last of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, last, actualLast);
     }
 
     // return the current assertion for method chaining
@@ -27,13 +27,11 @@ public abstract class AbstractPersonAssert<S extends AbstractPersonAssert<S, A>,
     // check that actual Person we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting age of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualAge = actual.getAge();
     if (actualAge != age) {
-      failWithMessage(assertjErrorMessage, actual, age, actualAge);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting age of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, age, actualAge);
     }
 
     // return the current assertion for method chaining
@@ -50,13 +48,11 @@ public abstract class AbstractPersonAssert<S extends AbstractPersonAssert<S, A>,
     // check that actual Person we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting height of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     java.math.BigDecimal actualHeight = actual.getHeight();
     if (!Objects.deepEquals(actualHeight, height)) {
-      failWithMessage(assertjErrorMessage, actual, height, actualHeight);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting height of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, height, actualHeight);
     }
 
     // return the current assertion for method chaining
@@ -73,13 +69,11 @@ public abstract class AbstractPersonAssert<S extends AbstractPersonAssert<S, A>,
     // check that actual Person we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualName = actual.getName();
     if (!Objects.deepEquals(actualName, name)) {
-      failWithMessage(assertjErrorMessage, actual, name, actualName);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, name, actualName);
     }
 
     // return the current assertion for method chaining
@@ -96,13 +90,11 @@ public abstract class AbstractPersonAssert<S extends AbstractPersonAssert<S, A>,
     // check that actual Person we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting nickname of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     java.util.Optional actualNickname = actual.getNickname();
     if (!Objects.deepEquals(actualNickname, nickname)) {
-      failWithMessage(assertjErrorMessage, actual, nickname, actualNickname);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting nickname of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, nickname, actualNickname);
     }
 
     // return the current assertion for method chaining
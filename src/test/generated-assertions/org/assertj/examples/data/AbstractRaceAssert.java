@@ -27,13 +27,11 @@ public abstract class AbstractRaceAssert<S extends AbstractRaceAssert<S, A>, A e
     // check that actual Race we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting alignment of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     Alignment actualAlignment = actual.getAlignment();
     if (!Objects.deepEquals(actualAlignment, alignment)) {
-      failWithMessage(assertjErrorMessage, actual, alignment, actualAlignment);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting alignment of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, alignment, actualAlignment);
     }
 
     // return the current assertion for method chaining
@@ -50,13 +48,11 @@ public abstract class AbstractRaceAssert<S extends AbstractRaceAssert<S, A>, A e
     // check that actual Race we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting fullname of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualFullname = actual.getFullname();
     if (!Objects.deepEquals(actualFullname, fullname)) {
-      failWithMessage(assertjErrorMessage, actual, fullname, actualFullname);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting fullname of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, fullname, actualFullname);
     }
 
     // return the current assertion for method chaining
@@ -73,13 +69,11 @@ public abstract class AbstractRaceAssert<S extends AbstractRaceAssert<S, A>, A e
     // check that actual Race we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualName = actual.getName();
     if (!Objects.deepEquals(actualName, name)) {
-      failWithMessage(assertjErrorMessage, actual, name, actualName);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, name, actualName);
     }
 
     // return the current assertion for method chaining
@@ -27,13 +27,11 @@ public abstract class AbstractTolkienCharacterAssert<S extends AbstractTolkienCh
     // check that actual TolkienCharacter we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualName = actual.getName();
     if (!Objects.deepEquals(actualName, name)) {
-      failWithMessage(assertjErrorMessage, actual, name, actualName);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, name, actualName);
     }
 
     // return the current assertion for method chaining
@@ -50,13 +48,11 @@ public abstract class AbstractTolkienCharacterAssert<S extends AbstractTolkienCh
     // check that actual TolkienCharacter we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting race of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     Race actualRace = actual.getRace();
     if (!Objects.deepEquals(actualRace, race)) {
-      failWithMessage(assertjErrorMessage, actual, race, actualRace);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting race of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, race, actualRace);
     }
 
     // return the current assertion for method chaining
@@ -73,13 +69,11 @@ public abstract class AbstractTolkienCharacterAssert<S extends AbstractTolkienCh
     // check that actual TolkienCharacter we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting surname of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualSurname = actual.getSurname();
     if (!Objects.deepEquals(actualSurname, surname)) {
-      failWithMessage(assertjErrorMessage, actual, surname, actualSurname);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting surname of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, surname, actualSurname);
     }
 
     // return the current assertion for method chaining
@@ -96,13 +90,11 @@ public abstract class AbstractTolkienCharacterAssert<S extends AbstractTolkienCh
     // check that actual TolkienCharacter we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting age of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     int actualAge = actual.age;
     if (actualAge != age) {
-      failWithMessage(assertjErrorMessage, actual, age, actualAge);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting age of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, age, actualAge);
     }
 
     // return the current assertion for method chaining
@@ -119,13 +111,11 @@ public abstract class AbstractTolkienCharacterAssert<S extends AbstractTolkienCh
     // check that actual TolkienCharacter we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting notAccessibleField of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
-    // check
+    // primitive check, no boxing
     long actualNotAccessibleField = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("notAccessibleField", long.class, actual);
     if (actualNotAccessibleField != notAccessibleField) {
-      failWithMessage(assertjErrorMessage, actual, notAccessibleField, actualNotAccessibleField);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting notAccessibleField of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, notAccessibleField, actualNotAccessibleField);
     }
 
     // return the current assertion for method chaining
@@ -27,13 +27,11 @@ public abstract class AbstractDollar$Assert<S extends AbstractDollar$Assert<S, A
     // check that actual Dollar$ we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting test of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualTest = actual.test;
     if (!Objects.deepEquals(actualTest, test)) {
-      failWithMessage(assertjErrorMessage, actual, test, actualTest);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting test of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, test, actualTest);
     }
 
     // return the current assertion for method chaining
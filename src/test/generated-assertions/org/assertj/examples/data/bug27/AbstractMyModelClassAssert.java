@@ -27,13 +27,11 @@ public abstract class AbstractMyModelClassAssert<S extends AbstractMyModelClassA
     // check that actual MyModelClass we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting iterator of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     MyIteratorWrapper actualIterator = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("iterator", MyIteratorWrapper.class, actual);
     if (!Objects.deepEquals(actualIterator, iterator)) {
-      failWithMessage(assertjErrorMessage, actual, iterator, actualIterator);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting iterator of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, iterator, actualIterator);
     }
 
     // return the current assertion for method chaining
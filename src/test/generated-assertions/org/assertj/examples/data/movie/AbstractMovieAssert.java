@@ -63,13 +63,11 @@ public abstract class AbstractMovieAssert<S extends AbstractMovieAssert<S, A>, A
     // check that actual Movie we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting releaseDate of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     java.util.Date actualReleaseDate = actual.getReleaseDate();
     if (!Objects.deepEquals(actualReleaseDate, releaseDate)) {
-      failWithMessage(assertjErrorMessage, actual, releaseDate, actualReleaseDate);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting releaseDate of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, releaseDate, actualReleaseDate);
     }
 
     // return the current assertion for method chaining
@@ -86,13 +84,11 @@ public abstract class AbstractMovieAssert<S extends AbstractMovieAssert<S, A>, A
     // check that actual Movie we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting title of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualTitle = actual.getTitle();
     if (!Objects.deepEquals(actualTitle, title)) {
-      failWithMessage(assertjErrorMessage, actual, title, actualTitle);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting title of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, title, actualTitle);
     }
 
     // return the current assertion for method chaining
@@ -145,13 +141,11 @@ public abstract class AbstractMovieAssert<S extends AbstractMovieAssert<S, A>, A
     // check that actual Movie we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting duration of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     String actualDuration = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("duration", String.class, actual);
     if (!Objects.deepEquals(actualDuration, duration)) {
-      failWithMessage(assertjErrorMessage, actual, duration, actualDuration);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting duration of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, duration, actualDuration);
     }
 
     // return the current assertion for method chaining
@@ -27,13 +27,11 @@ public abstract class AbstractDragonBallGraphRepositoryAssert<S extends Abstract
     // check that actual DragonBallGraphRepository we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     org.neo4j.graphdb.GraphDatabaseService actualGraphDatabase = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("graphDatabase", org.neo4j.graphdb.GraphDatabaseService.class, actual);
     if (!Objects.deepEquals(actualGraphDatabase, graphDatabase)) {
-      failWithMessage(assertjErrorMessage, actual, graphDatabase, actualGraphDatabase);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, graphDatabase, actualGraphDatabase);
     }
 
     // return the current assertion for method chaining
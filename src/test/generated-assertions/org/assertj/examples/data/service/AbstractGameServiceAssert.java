@@ -27,13 +27,11 @@ public abstract class AbstractGameServiceAssert<S extends AbstractGameServiceAss
     // check that actual GameService we want to make assertions on is not null.
     isNotNull();
 
-    // overrides the default error message with a more explicit one
-    String assertjErrorMessage = "\nExpecting teamManager of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
-
     // null safe check
     TeamManager actualTeamManager = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("teamManager", TeamManager.class, actual);
     if (!Objects.deepEquals(actualTeamManager, teamManager)) {
-      failWithMessage(assertjErrorMessage, actual, teamManager, actualTeamManager);
+      // overrides the default error message with a more explicit one, only built when the check fails
+      failWithMessage("\nExpecting teamManager of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>", actual, teamManager, actualTeamManager);
     }
 
     // return the current assertion for method chaining
@@ -1,53 +1,64 @@
 package com.testinglaboratory.restassured.foundations.simple.basicauth;
 
+import com.testinglaboratory.restassured.support.auth.AuthFilter;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
 
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class BasicAuthTest {
+    private static RequestSpecification foundations;
 
-    private final String BAD_USERNAME = "gibberish";
-    private final String BAD_PASS = "gibberish";
-    private final String GOOD_USERNAME = "SeniorSiarra";
-    private final String GOOD_PASS = "JurekKiler";
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
+
+    private static final String BAD_USERNAME = "gibberish";
+    private static final String BAD_PASS = "gibberish";
+    private static final String GOOD_USERNAME = "SeniorSiarra";
+    private static final String GOOD_PASS = "JurekKiler";
+    private static final AuthFilter INTRUDER = AuthFilter.preemptiveBasic(BAD_USERNAME, BAD_PASS);
+    private static final AuthFilter SIARRA = AuthFilter.preemptiveBasic(GOOD_USERNAME, GOOD_PASS);
 
     @Test
     public void shouldNotBeAuthenticatedWithoutCredentials() {
-        given().auth().basic(BAD_USERNAME, BAD_PASS)
+        given(foundations).filter(INTRUDER)
                 .when()
                 .get("/users/me")
                 .then()
-                .statusCode(401).log().everything();
+                .statusCode(401);
 
     }
 
     @Test
     public void shouldBeAbleToAuth() {
-        given().auth().basic(GOOD_USERNAME, GOOD_PASS)
+        given(foundations).filter(SIARRA)
                 .when()
                 .get("/users/me")
                 .then()
-                .statusCode(200)
-                .log().everything();
+                .statusCode(200);
     }
 
     @Test
     public void shouldAccessResource() {
-        given().auth().basic(GOOD_USERNAME, GOOD_PASS)
+        given(foundations).filter(SIARRA)
                 .when()
                 .get("/users/some_secret_resource/1")
                 .then()
-                .statusCode(200)
-                .log().everything();
+                .statusCode(200);
     }
 
     @Test
     public void shouldGetKickedOut() {
-        given().auth().basic(BAD_USERNAME, BAD_PASS)
+        given(foundations).filter(INTRUDER)
                 .when()
                 .get("/users/some_secret_resource/1")
                 .then()
-                .statusCode(401)
-                .log().everything();
+                .statusCode(401);
     }
 }
@@ -1,22 +1,36 @@
 package com.testinglaboratory.restassured.foundations.simple.cookies;
 
-import com.github.javafaker.Faker;
 import com.google.gson.JsonObject;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.session.SessionCache;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.containsString;
 
 @Slf4j
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class CookiesButBetterTest {
 
+    private static final SessionCache sessions = SessionCache.of(ChallengeTarget.FOUNDATIONS);
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
+
     @Test
     public void shouldBeRegistered() {
         JsonObject user = createUser();
@@ -29,13 +43,9 @@ public class CookiesButBetterTest {
     }
 
     @Test
-    public void shouldBeAbleToLogin() {
-        JsonObject user = createUser();
-        log.info(user.toString());
-        registerUser(user);
-        Response loginResponse = loginUser(user);
-        Map<String, String> cookies = loginResponse.cookies();
-        accessRestrictedResource(cookies)
+    public void shouldBeAbleToLogin(Identity registered) {
+        log.info(registered.credentials().toString());
+        sessions.authenticated(registered, this::accessRestrictedResource)
                 .then()
                 .statusCode(200);
     }
@@ -43,9 +53,6 @@ public class CookiesButBetterTest {
 
     @Test
     public void shouldNotBeAbleToAccessResourceWhenNotLoggedIn() {
-        JsonObject user = createUser();
-        log.info(user.toString());
-        registerUser(user);
         Map<String, String> cookies = new HashMap<>();
         accessRestrictedResource(cookies)
                 .then()
@@ -54,9 +61,9 @@ public class CookiesButBetterTest {
 
 
     private JsonObject createUser(){
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String username = fake.name().username();
-        String password = fake.internet().password();
+        Identity identity = IdentityPool.next();
+        String username = identity.getUsername();
+        String password = identity.getPassword();
         JsonObject user = new JsonObject();
         user.addProperty("username", username);
         user.addProperty("password", password);
@@ -64,42 +71,26 @@ public class CookiesButBetterTest {
     }
 
     private Response registerUser(JsonObject user){
-        return given()
+        return given(foundations)
                 .header("Content-Type", "application/json")
                 .header("accept", "application/json")
                 .body(user)
                 .when()
                 .post("/register")
                 .then()
-                .log().everything()
                 .assertThat()
                 .statusCode(201)
                 .body(containsString(String.valueOf(user.get("username"))))
                 .extract().response();
     }
 
-    private Response loginUser(JsonObject user){
-        return given()
-                .header("Content-Type", "application/json")
-                .header("accept", "application/json")
-                .body(user)
-                .when()
-                .post("/login")
-                .then()
-                .log().everything()
-                .assertThat()
-                .statusCode(202)
-                .body(containsString(String.valueOf(user.get("username"))))
-                .extract().response();
-    }
     private Response accessRestrictedResource(Map<String, String> cookies){
-        return given()
+        return given(foundations)
                 .header("accept", "application/json")
                 .cookies(cookies)
                 .when()
                 .get("/for_logged_in_users_only")
                 .then()
-                .log().everything()
                 .extract().response();
 
     }
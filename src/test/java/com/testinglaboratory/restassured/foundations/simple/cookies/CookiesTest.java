@@ -1,13 +1,19 @@
 package com.testinglaboratory.restassured.foundations.simple.cookies;
 
-import com.github.javafaker.Faker;
 import com.google.gson.JsonObject;
+import com.testinglaboratory.restassured.support.auth.AuthFilter;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.session.SessionCache;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
-import java.util.Locale;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
@@ -15,26 +21,34 @@ import static org.assertj.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 
 @Slf4j
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class CookiesTest {
 
+    private static final SessionCache sessions = SessionCache.of(ChallengeTarget.FOUNDATIONS);
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
+
     @Test
     public void shouldBeRegistered() {
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String username = fake.name().username();
-        String password = fake.internet().password();
+        Identity identity = IdentityPool.next();
+        String username = identity.getUsername();
+        String password = identity.getPassword();
         JsonObject user = new JsonObject();
         user.addProperty("username", username);
         user.addProperty("password", password);
 
         log.info(user.toString());
-        ExtractableResponse<Response> response = given()
+        ExtractableResponse<Response> response = given(foundations)
                 .header("Content-Type", "application/json")
                 .header("accept", "application/json")
                 .body(user)
                 .when()
                 .post("/register")
                 .then()
-                .log().everything()
                 .assertThat()
                 .statusCode(201)
                 .body(containsString(username))
@@ -46,108 +60,50 @@ public class CookiesTest {
     }
 
     @Test
-    public void shouldBeAbleToLogin() {
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String username = fake.name().username();
-        String password = fake.internet().password();
-        JsonObject user = new JsonObject();
-        user.addProperty("username", username);
-        user.addProperty("password", password);
-        log.info(user.toString());
-        given()
-                .header("Content-Type", "application/json")
-                .header("accept", "application/json")
-                .body(user)
-                .when()
-                .post("/register")
+    public void shouldBeAbleToLogin(Identity registered) {
+        log.info(registered.credentials().toString());
+        // logs in once per user, the login is checked for 202 and the username by the cache
+        sessions.authenticated(registered, cookies -> given(foundations)
+                        .header("accept", "application/json")
+                        .cookies(cookies)
+                        .when()
+                        .get("/for_logged_in_users_only"))
                 .then()
-                .log().everything()
-                .assertThat()
-                .statusCode(201)
-                .body(containsString(username));
-
-        ExtractableResponse<Response> loginResponse = given()
-                .header("Content-Type", "application/json")
-                .header("accept", "application/json")
-                .body(user)
-                .when()
-                .post("/login")
-                .then()
-                .log().everything()
-                .assertThat()
-                .statusCode(202)
-                .body(containsString(username)).extract();
-
-        System.out.println(loginResponse.cookies());
-        System.out.println(loginResponse.body());
-
-        Map<String, String> cookies = loginResponse.cookies();
-
-        given()
-                .header("accept", "application/json")
-                .cookies(cookies)
-                .when()
-                .get("/for_logged_in_users_only")
-                .then()
-                .log().everything()
                 .assertThat()
                 .statusCode(200);
-
     }
 
+    @Test
+    public void shouldStayLoggedInAcrossRequests(Identity registered) {
+        // renders the session cookies into one header and sends it with every request, logging in once
+        AuthFilter session = AuthFilter.cookieSession(sessions, registered);
+        for (int i = 0; i < 3; i++) {
+            given(foundations)
+                    .filter(session)
+                    .header("accept", "application/json")
+                    .when()
+                    .get("/for_logged_in_users_only")
+                    .then()
+                    .assertThat()
+                    .statusCode(200);
+        }
+    }
 
     @Test
     public void shouldNotBeAbleToAccessResourceWhenNotLoggedIn() {
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String username = fake.name().username();
-        String password = fake.internet().password();
-        JsonObject user = new JsonObject();
-        user.addProperty("username", username);
-        user.addProperty("password", password);
-        log.info(user.toString());
-        given()
-                .header("Content-Type", "application/json")
-                .header("accept", "application/json")
-                .body(user)
-                .when()
-                .post("/register")
-                .then()
-                .log().everything()
-                .assertThat()
-                .statusCode(201)
-                .body(containsString(username));
-
-        ExtractableResponse<Response> loginResponse = given()
-                .header("Content-Type", "application/json")
-                .header("accept", "application/json")
-                .body(user)
-                .when()
-                .post("/login")
-                .then()
-                .log().everything()
-                .assertThat()
-                .statusCode(202)
-                .body(containsString(username)).extract();
-
-        System.out.println(loginResponse.cookies());
-        System.out.println(loginResponse.body());
-
-        Map<String, String> cookies = loginResponse.cookies();
-
-        given()
+        given(foundations)
                 .header("accept", "application/json")
                 .when()
                 .get("/for_logged_in_users_only")
                 .then()
-                .log().everything()
                 .assertThat()
                 .statusCode(401);
     }
 
     private JsonObject createUser(){
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String username = fake.name().username();
-        String password = fake.internet().password();
+        Identity identity = IdentityPool.next();
+        String username = identity.getUsername();
+        String password = identity.getPassword();
         JsonObject user = new JsonObject();
         user.addProperty("username", username);
         user.addProperty("password", password);
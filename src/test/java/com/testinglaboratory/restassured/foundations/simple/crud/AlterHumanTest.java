@@ -1,56 +1,68 @@
 package com.testinglaboratory.restassured.foundations.simple.crud;
 
-import com.github.javafaker.Faker;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.json.CompiledPath;
+import com.testinglaboratory.restassured.support.json.ParsedDocument;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.ResponseBodyExtractionOptions;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
-import java.util.Locale;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.in;
 
 @Slf4j
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class AlterHumanTest {
+    private static final CompiledPath FIRST_NAME = CompiledPath.of("human.first_name");
+    private static final CompiledPath LAST_NAME = CompiledPath.of("human.last_name");
+
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
 
     @Test
     public void putNewHumanInPlace() {
-        JSONObject human = given()
+        JSONObject human = given(foundations)
                 .get("/human/1")
                 .then()
                 .statusCode(in(List.of(200, 307)))
-                .log().everything()
                 .extract().body().as(JSONObject.class);
 
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String firstName = fake.name().firstName();
-        String lastName = fake.name().lastName();
+        Identity identity = IdentityPool.next();
+        String firstName = identity.getFirstName();
+        String lastName = identity.getLastName();
         JSONObject newHuman = new JSONObject();
         newHuman.put("first_name", firstName);
         newHuman.put("last_name", lastName);
         log.info(newHuman.toString());
 
-        ResponseBodyExtractionOptions body = given()
+        ResponseBodyExtractionOptions body = given(foundations)
                 .header("Content-Type", "application/json")
                 .when()
                 .body(newHuman.toMap())
                 .put("/human/1")
                 .then()
                 .statusCode(202)
-                .log().everything().extract().body();
+                .extract().body();
 
         log.info(body.jsonPath().getString("."));
 
-        JSONObject alteredHuman = given()
+        JSONObject alteredHuman = given(foundations)
                 .header("Accept", "application/json")
                 .get("/human/1")
                 .then()
                 .statusCode(200)
-                .log().everything()
                 .extract().body().as(JSONObject.class);
 
         assert human.toString().equals(alteredHuman.toString());
@@ -59,22 +71,21 @@ public class AlterHumanTest {
     @Test
     public void changeBridesMaidenName() {
         Integer humanId = 2;
-        JsonObject bride = given()
+        ParsedDocument bride = ParsedDocument.of(given(foundations)
                 .basePath("/human/{humanId}")
                 .pathParam("humanId", humanId)
                 .get()
                 .then()
                 .statusCode(in(List.of(200, 307)))
-                .log().everything()
-                .extract().body().as(JsonObject.class);
+                .extract().body());
 
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String lastName = fake.name().lastName();
+        Identity identity = IdentityPool.next();
+        String lastName = identity.getLastName();
         JSONObject alteration = new JSONObject();
         alteration.put("last_name", lastName);
         log.info("Alteration " + alteration.toString());
 
-        ResponseBodyExtractionOptions body = given()
+        ResponseBodyExtractionOptions body = given(foundations)
                 .header("Content-Type", "application/json")
                 .body(alteration.toMap())
                 .basePath("/human/{humanId}")
@@ -83,26 +94,21 @@ public class AlterHumanTest {
                 .patch()
                 .then()
                 .statusCode(202)
-                .log().everything().extract().body();
+                .extract().body();
 
         log.info(body.jsonPath().getString("."));
 
-        JsonObject wife = given()
+        ParsedDocument wife = ParsedDocument.of(given(foundations)
                 .basePath("/human/{humanId}")
                 .pathParam("humanId", humanId)
                 .get()
                 .then()
                 .statusCode(in(List.of(200, 307)))
-                .log().everything()
-                .extract().body().as(JsonObject.class);
-
-        assert bride.getAsJsonObject("human").get("first_name").getAsString()
-                .equals(wife.getAsJsonObject("human").get("first_name").getAsString());
-        assert !bride.getAsJsonObject("human").get("last_name").getAsString()
-                .equals(wife.getAsJsonObject("human").get("last_name").getAsString());
-        assert alteration.get("last_name")
-                .equals(wife.getAsJsonObject("human").get("last_name").getAsString());
-        assert !alteration.get("last_name")
-                .equals(bride.getAsJsonObject("human").get("last_name").getAsString());
+                .extract().body());
+
+        assert bride.getString(FIRST_NAME).equals(wife.getString(FIRST_NAME));
+        assert !bride.getString(LAST_NAME).equals(wife.getString(LAST_NAME));
+        assert alteration.get("last_name").equals(wife.getString(LAST_NAME));
+        assert !alteration.get("last_name").equals(bride.getString(LAST_NAME));
     }
 }
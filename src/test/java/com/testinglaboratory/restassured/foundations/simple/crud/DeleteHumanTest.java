@@ -1,14 +1,21 @@
 package com.testinglaboratory.restassured.foundations.simple.crud;
 
-import com.github.javafaker.Faker;
 import com.google.common.collect.Iterables;
+import com.testinglaboratory.restassured.support.async.AsyncRequests;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Locale;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.given;
@@ -18,49 +25,33 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
 @Slf4j
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class DeleteHumanTest {
     private Integer humanId;
 
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUpTarget(RequestSpecification spec) {
+        foundations = spec;
+    }
+
     @BeforeEach
     public void setUp() {
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String firstName = fake.name().firstName();
-        String lastName = fake.name().lastName();
-        JSONObject human = new JSONObject();
-        human.put("first_name", firstName);
-        human.put("last_name", lastName);
-        log.info(human.toString());
-        String message = given()
-                .header("Content-Type", "application/json")
-                .header("accept", "application/json")
-                .body(human)
-                .post("/human/")
-                .then()
-                .log().everything()
-                .assertThat()
-                .body(containsString(firstName))
-                .body(containsString(lastName))
-                .extract().body().jsonPath()
-                .getString("message");
-        humanId = Integer.parseInt(
-                Iterables.getLast(
-                        Arrays.stream(message.split(" "))
-                                .collect(Collectors.toList()))
-        );
+        humanId = createHuman(given(foundations));
     }
 
     @Test
     public void deleteHuman() {
-        given()
+        given(foundations)
                 .header("Content-Type", "application/json")
                 .header("accept", "application/json")
                 .pathParam("humanId", humanId)
                 .delete("/human/{humanId}")
                 .then()
-                .statusCode(202)
-                .log().everything();
+                .statusCode(202);
 
-        given()
+        given(foundations)
                 .header("Content-Type", "application/json")
                 .header("accept", "application/json")
                 .pathParam("humanId", humanId)
@@ -68,9 +59,58 @@ public class DeleteHumanTest {
                 .then()
                 .statusCode(200)
                 .assertThat()
-                .body("human", is(nullValue()))
-                .log().everything();
+                .body("human", is(nullValue()));
 
 
     }
+
+    @Test
+    public void deleteManyHumansConcurrently() {
+        AsyncRequests async = new AsyncRequests(foundations);
+        List<Integer> humanIds = new ArrayList<>(async.await(
+                async.forEach(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), (spec, i) -> createHuman(spec))).values());
+
+        async.await(async.forEach(humanIds, (spec, id) -> spec
+                .header("Content-Type", "application/json")
+                .header("accept", "application/json")
+                .pathParam("humanId", id)
+                .delete("/human/{humanId}")
+                .then()
+                .statusCode(202)));
+
+        async.await(async.forEach(humanIds, (spec, id) -> spec
+                .header("accept", "application/json")
+                .pathParam("humanId", id)
+                .get("/human/{humanId}")
+                .then()
+                .statusCode(200)
+                .assertThat()
+                .body("human", is(nullValue()))));
+    }
+
+    private static Integer createHuman(RequestSpecification spec) {
+        Identity identity = IdentityPool.next();
+        String firstName = identity.getFirstName();
+        String lastName = identity.getLastName();
+        JSONObject human = new JSONObject();
+        human.put("first_name", firstName);
+        human.put("last_name", lastName);
+        log.info(human.toString());
+        String message = spec
+                .header("Content-Type", "application/json")
+                .header("accept", "application/json")
+                .body(human)
+                .post("/human/")
+                .then()
+                .assertThat()
+                .body(containsString(firstName))
+                .body(containsString(lastName))
+                .extract().body().jsonPath()
+                .getString("message");
+        return Integer.parseInt(
+                Iterables.getLast(
+                        Arrays.stream(message.split(" "))
+                                .collect(Collectors.toList()))
+        );
+    }
 }
@@ -1,23 +1,35 @@
 package com.testinglaboratory.restassured.foundations.simple.headers;
 
+import com.testinglaboratory.restassured.support.auth.AuthFilter;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 import org.joda.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
-import static io.restassured.RestAssured.when;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.lessThan;
 
 @Slf4j
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class HeaderTest {
+    private static final AuthFilter API_KEY = AuthFilter.apiKey("apikey", "woohoo");
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
 
     @Test
     public void shouldBeAuthenticated() {
         Response response =
-                given()
-                        .headers("apikey", "woohoo")
+                given(foundations)
+                        .filter(API_KEY)
                 .when()
                         .get("/header_check")
                         .then()
@@ -35,7 +47,7 @@ public class HeaderTest {
     public void shouldNotBeAuthenticated() {
         Response response =
 
-                when()
+                given(foundations).when()
                         .get("/header_check")
                         .then()
                         .statusCode(403)
@@ -1,11 +1,15 @@
 package com.testinglaboratory.restassured.foundations.simple.oks;
 
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
-import static io.restassured.RestAssured.when;
+import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.lessThan;
@@ -22,11 +26,18 @@ import static org.hamcrest.Matchers.lessThan;
  * "timestamp": "2021-05-04 08:14:34.778895"
  * }
  */
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class BasicOkTest {
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
 
     @Test
     public void shouldReturnStatus200() {
-        when()
+        given(foundations).when()
                 .get("/ok")
                 .then()
                 .statusCode(200);
@@ -34,7 +45,7 @@ public class BasicOkTest {
 
     @Test
     public void shouldHaveInformationOnStatus200() {
-        when()
+        given(foundations).when()
                 .get("/ok")
                 .then()
                 .statusCode(200)
@@ -46,7 +57,7 @@ public class BasicOkTest {
     @Test
     public void shouldBeExecutedInLessThanOneSecond() {
         Response response =
-                when()
+                given(foundations).when()
                         .get("/ok")
                         .then()
                         .statusCode(200)
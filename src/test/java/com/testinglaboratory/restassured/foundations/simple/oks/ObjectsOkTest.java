@@ -1,17 +1,23 @@
 package com.testinglaboratory.restassured.foundations.simple.oks;
 
-import io.restassured.RestAssured;
+import com.testinglaboratory.restassured.support.latency.LatencySample;
+import com.testinglaboratory.restassured.support.latency.LatencySampler;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static io.restassured.RestAssured.when;
+import java.time.Duration;
+
+import static com.testinglaboratory.restassured.support.latency.LatencyAssert.assertThatLatencyOf;
+import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 
 /**
@@ -26,13 +32,20 @@ import static org.hamcrest.Matchers.not;
  * "timestamp": "2021-05-04 08:14:34.778895"
  * }
  */
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class ObjectsOkTest {
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
 
     private Response response;
 
     @BeforeEach
     public void methodSetUp() {
-        response = when()
+        response = given(foundations).when()
                 .get("/ok");
     }
 
@@ -60,8 +73,7 @@ public class ObjectsOkTest {
                 .body("basicInformation", equalTo("This is GET example for status code 200"),
                         "responseInformation.shortDescription", equalTo("OK"),
                         "responseInformation.longDescription", equalTo("The request has succeeded")
-                )
-                .time(lessThan(1000L));
+                );
         LocalDateTime dateTime = LocalDateTime.parse(
                 response.body().jsonPath().getString("timestamp")
                         .replace(" ", "T")
@@ -73,5 +85,10 @@ public class ObjectsOkTest {
                         new LocalDateTime(DateTimeZone.forOffsetHours(-2)).minusMinutes(1)
                 );
 
+        LatencySample ok = new LatencySampler(20, 200)
+                .sample("GET /ok", () -> given(foundations).get("/ok").then().statusCode(200));
+        assertThatLatencyOf(ok)
+                .hasP99Below(Duration.ofMillis(150))
+                .hasMaxBelow(Duration.ofSeconds(1));
     }
 }
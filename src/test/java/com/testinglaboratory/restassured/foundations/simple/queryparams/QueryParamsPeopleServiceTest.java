@@ -1,8 +1,14 @@
 package com.testinglaboratory.restassured.foundations.simple.queryparams;
 
-import com.github.javafaker.Faker;
-import io.restassured.RestAssured;
-import io.restassured.response.Response;
+import com.google.gson.JsonElement;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.json.JsonStreamInspector;
+import com.testinglaboratory.restassured.support.json.JsonStreamSummary;
+import com.testinglaboratory.restassured.support.json.StreamingBody;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeAll;
@@ -11,23 +17,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-
 import static io.restassured.RestAssured.given;
-import static io.restassured.RestAssured.when;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
 @Slf4j
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
 public class QueryParamsPeopleServiceTest {
+    private static RequestSpecification foundations;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        foundations = spec;
+    }
+
     @DisplayName("Shameful test")
     @Tag("Known Issue")
     @Test
     @Disabled("JIRA_TICKET-76531")
     public void shouldGreetPersonWithFirstNameAndLastName() {
-        given().queryParam("first_name", "Tomasz")
+        given(foundations).queryParam("first_name", "Tomasz")
                 .queryParam("last_name", "Kowalski")
                 .when()
                 .log().method().log().parameters()
@@ -42,7 +51,7 @@ public class QueryParamsPeopleServiceTest {
 
     @Test
     public void shouldGreetPersonWithFullName() {
-        given().queryParam("first_name", "Tomasz")
+        given(foundations).queryParam("first_name", "Tomasz")
                 .queryParam("last_name", "Kowalski")
                 .when()
                 .log().method().log().parameters()
@@ -56,7 +65,7 @@ public class QueryParamsPeopleServiceTest {
 
     @Test
     public void shouldOverwriteDuplicatedParam() {
-        given().queryParam("first_name", "Stefan")
+        given(foundations).queryParam("first_name", "Stefan")
                 .queryParam("last_name", "Jaracz")
                 .queryParam("last_name", "Madafaka")
                 .when()
@@ -70,14 +79,14 @@ public class QueryParamsPeopleServiceTest {
 
     @Test
     public void shouldIncludeProvidedMiddleNameWithGreeting() {
-        Faker fake = new Faker(new Locale("PL_pl"));
-        String firstName = fake.name().firstName();
-        String middleName = fake.name().firstName();
-        String lastName = fake.name().lastName();
+        Identity identity = IdentityPool.next();
+        String firstName = identity.getFirstName();
+        String middleName = IdentityPool.next().getFirstName();
+        String lastName = identity.getLastName();
         log.info(firstName);
         log.info(middleName);
         log.info(lastName);
-        given().queryParam("first_name", firstName)
+        given(foundations).queryParam("first_name", firstName)
                 .queryParam("last_name", lastName)
                 .queryParam("middle_name", middleName)
                 .when()
@@ -86,19 +95,24 @@ public class QueryParamsPeopleServiceTest {
                 .assertThat()
                 .statusCode(HttpStatus.SC_OK)
                 .body("Greeting", equalTo(
-                        String.format("Hello, %s %s %s!", firstName, middleName, lastName)))
-                .log().everything();
+                        String.format("Hello, %s %s %s!", firstName, middleName, lastName)));
     }
 
     @Test
     public void shouldReturnListOfAllPeople() {
-        Response response = when()
-                .get("/get_all_people")
-                .andReturn();
-        Map<String, Map<String, String>> people = response.body().jsonPath().getMap(".");
+        JsonStreamSummary people = JsonStreamInspector.entries()
+                .allMatch("is a person", JsonElement::isJsonObject)
+                .sample("first_name", 5)
+                .sample("last_name", 5)
+                .inspect(given(foundations).filter(new StreamingBody())
+                        .when()
+                        .get("/get_all_people"));
         log.info(String.valueOf(people));
-        assertThat(people)
+        assertThat(people.getEntries())
                 .as("People of this beautiful country")
-                .hasSizeGreaterThanOrEqualTo(1000);
+                .isGreaterThanOrEqualTo(1000);
+        assertThat(people.getViolations())
+                .as("Entries that are not people")
+                .isEmpty();
     }
 }
@@ -0,0 +1,42 @@
+package com.testinglaboratory.restassured.load;
+
+import com.testinglaboratory.restassured.support.scan.IdRangeScanner;
+import com.testinglaboratory.restassured.support.scan.ScanSummary;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sweeps /flag/{id} from -Dscan.from (default 0) up to -Dscan.to at -Dscan.rate requests per second (default 200)
+ * with -Dscan.concurrency in flight (default 8). Every result goes to target/scans/flag.tsv.
+ */
+@Slf4j
+@Tag("scan")
+@RestAssuredTarget(ChallengeTarget.PRIMER)
+@EnabledIfSystemProperty(named = "scan.to", matches = "\\d+")
+class FlagRangeScanTest {
+
+    @Test
+    void everyFlagIdAnswers(RequestSpecification primer) {
+        ScanSummary summary = IdRangeScanner.over(primer, "/flag/{flagId}")
+                .rate(Double.parseDouble(System.getProperty("scan.rate", "200")))
+                .concurrency(Integer.getInteger("scan.concurrency", 8))
+                .scan(Long.getLong("scan.from", 0), Long.getLong("scan.to"), Path.of("target", "scans", "flag.tsv"));
+
+        log.info("Flag scan:\n{}", summary);
+        assertThat(summary.getFailed())
+                .as("Requests that got no response")
+                .isZero();
+        assertThat(summary.getCounts().keySet())
+                .as("Status and body classes")
+                .allMatch(group -> group.startsWith("200 ") || group.startsWith("404 "));
+    }
+}
@@ -0,0 +1,133 @@
+package com.testinglaboratory.restassured.load;
+
+import com.google.common.collect.Iterables;
+import com.testinglaboratory.restassured.support.consistency.Operation;
+import com.testinglaboratory.restassured.support.consistency.OperationHistory;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Concurrent clients doing PUT, PATCH and GET on a few /human/{id} resources, recording every call.
+ * Half of the calls go to the first (hot) human, so writers also collide on one resource.
+ */
+public final class HumanWriters {
+    private static final String FIRST_NAME = "first_name";
+    private static final String LAST_NAME = "last_name";
+
+    private final RequestSpecification foundations;
+    private final int clients;
+    private final Duration duration;
+
+    public HumanWriters(RequestSpecification foundations, int clients, Duration duration) {
+        this.foundations = foundations;
+        this.clients = clients;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates the humans, runs the clients until the duration is over and reads every human once more at the end.
+     */
+    public OperationHistory run(int humans) throws InterruptedException {
+        OperationHistory history = new OperationHistory();
+        List<String> resources = new ArrayList<>();
+        for (int i = 0; i < humans; i++) {
+            Map<String, String> initial = Map.of(FIRST_NAME, "Stress" + i, LAST_NAME, "Initial" + i);
+            String resource = "/human/" + create(initial);
+            history.initialState(resource, initial);
+            resources.add(resource);
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int client = 0; client < clients; client++) {
+            int clientId = client;
+            executor.execute(() -> {
+                for (int sequence = 0; System.nanoTime() < deadline; sequence++) {
+                    history.record(randomOperation(clientId, sequence, resources));
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+            throw new IllegalStateException("Clients did not stop within a minute after the deadline");
+        }
+        resources.forEach(resource -> history.record(get(-1, resource)));
+        return history;
+    }
+
+    private Operation randomOperation(int client, int sequence, List<String> resources) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String resource = random.nextBoolean() ? resources.get(0) : resources.get(random.nextInt(resources.size()));
+        String value = "c" + client + "s" + sequence;
+        switch (random.nextInt(3)) {
+            case 0:
+                return write(client, "PUT", resource, Map.of(FIRST_NAME, "F" + value, LAST_NAME, "L" + value));
+            case 1:
+                return write(client, "PATCH", resource, Map.of(LAST_NAME, "L" + value));
+            default:
+                return get(client, resource);
+        }
+    }
+
+    private Operation write(int client, String method, String resource, Map<String, String> fields) {
+        long invoked = System.nanoTime();
+        boolean ok;
+        try {
+            Response response = given(foundations)
+                    .header("Content-Type", "application/json")
+                    .body(fields)
+                    .request(method, resource);
+            ok = response.statusCode() == 202;
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        return new Operation(client, method, resource, fields, null, invoked, System.nanoTime(), ok);
+    }
+
+    private Operation get(int client, String resource) {
+        long invoked = System.nanoTime();
+        Map<String, String> human = null;
+        try {
+            Response response = given(foundations)
+                    .header("Accept", "application/json")
+                    .get(resource);
+            Map<String, Object> body = response.statusCode() == 200 ? response.jsonPath().getMap("human") : null;
+            if (body != null) {
+                human = new HashMap<>();
+                for (String field : List.of(FIRST_NAME, LAST_NAME)) {
+                    if (body.get(field) != null) {
+                        human.put(field, String.valueOf(body.get(field)));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            human = null;
+        }
+        return new Operation(client, "GET", resource, Map.of(), human, invoked, System.nanoTime(), human != null);
+    }
+
+    private int create(Map<String, String> fields) {
+        String message = given(foundations)
+                .header("Content-Type", "application/json")
+                .header("accept", "application/json")
+                .body(fields)
+                .post("/human/")
+                .then()
+                .statusCode(201)
+                .extract().body().jsonPath()
+                .getString("message");
+        return Integer.parseInt(Iterables.getLast(List.of(message.split(" "))));
+    }
+}
@@ -0,0 +1,43 @@
+package com.testinglaboratory.restassured.load;
+
+import com.testinglaboratory.restassured.support.consistency.ConsistencyReport;
+import com.testinglaboratory.restassured.support.consistency.OperationHistory;
+import com.testinglaboratory.restassured.support.consistency.RegisterHistoryChecker;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs -Dstress.clients concurrent PUT/PATCH/GET clients against -Dstress.humans humans (default 4)
+ * for -Dstress.duration seconds (default 30), then checks the history for stale reads and lost updates.
+ * Raise the number of clients until the check fails to find where the service stops being correct.
+ */
+@Slf4j
+@Tag("stress")
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
+@EnabledIfSystemProperty(named = "stress.clients", matches = "\\d+")
+class HumanWritersStressTest {
+
+    @Test
+    void concurrentWritersShouldNotLoseUpdates(RequestSpecification foundations) throws InterruptedException {
+        HumanWriters writers = new HumanWriters(foundations,
+                Integer.getInteger("stress.clients"),
+                Duration.ofSeconds(Long.getLong("stress.duration", 30)));
+
+        OperationHistory history = writers.run(Integer.getInteger("stress.humans", 4));
+        ConsistencyReport report = new RegisterHistoryChecker().check(history);
+
+        log.info("Concurrent writers on /human/{id}:\n{}", report);
+        assertThat(report.isConsistent())
+                .as("History of /human/{id} operations is consistent:%n%s", report)
+                .isTrue();
+    }
+}
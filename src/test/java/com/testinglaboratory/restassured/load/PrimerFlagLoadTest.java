@@ -0,0 +1,40 @@
+package com.testinglaboratory.restassured.load;
+
+import com.testinglaboratory.restassured.support.load.LoadReport;
+import com.testinglaboratory.restassured.support.load.OpenModelLoadDriver;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the primer register/login/flag journey at -Dload.rate journeys per second
+ * for -Dload.duration seconds (default 30), against the embedded stand-in unless -Dprimer.baseUri is given.
+ */
+@Slf4j
+@Tag("load")
+@RestAssuredTarget(ChallengeTarget.PRIMER)
+@EnabledIfSystemProperty(named = "load.rate", matches = "\\d+(\\.\\d+)?")
+class PrimerFlagLoadTest {
+
+    @Test
+    void primerFlagJourneyUnderLoad(RequestSpecification primer) throws InterruptedException {
+        OpenModelLoadDriver driver = new OpenModelLoadDriver(
+                Double.parseDouble(System.getProperty("load.rate")),
+                Duration.ofSeconds(Long.getLong("load.duration", 30)));
+
+        LoadReport report = driver.run(UserJourneys.primerFlag(primer));
+
+        log.info("Primer flag journey:\n{}", report);
+        assertThat(report.getFailedJourneys())
+                .as("Failed journeys")
+                .isZero();
+    }
+}
@@ -0,0 +1,46 @@
+package com.testinglaboratory.restassured.load;
+
+import com.testinglaboratory.restassured.reactor.client.ReactorSession;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.load.ClosedLoadReport;
+import com.testinglaboratory.restassured.support.load.ClosedModelLoadDriver;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs -Dreactor.sessions independent check-in/control room sessions against the reactor application,
+ * -Dreactor.concurrency (default 8) at a time, and reports sessions per second and latency per transition.
+ */
+@Slf4j
+@Tag("load")
+@RestAssuredTarget(ChallengeTarget.REACTOR)
+@EnabledIfSystemProperty(named = "reactor.sessions", matches = "\\d+")
+class ReactorSessionsLoadTest {
+
+    @Test
+    void independentSessionsCompleteTheWorkflow(RequestSpecification reactor) throws InterruptedException {
+        ClosedModelLoadDriver driver = new ClosedModelLoadDriver(
+                Integer.getInteger("reactor.sessions"),
+                Integer.getInteger("reactor.concurrency", 8),
+                Duration.ofSeconds(Long.getLong("load.duration", 300)));
+
+        ClosedLoadReport report = driver.run(steps -> new ReactorSession(reactor, steps)
+                .checkIn(IdentityPool.next().getUsername())
+                .enterControlRoom()
+                .inspectCore());
+
+        log.info("Reactor sessions:\n{}", report);
+        assertThat(report.getFailedJourneys())
+                .as("Failed sessions")
+                .isZero();
+    }
+}
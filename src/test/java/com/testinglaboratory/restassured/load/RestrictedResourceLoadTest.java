@@ -0,0 +1,40 @@
+package com.testinglaboratory.restassured.load;
+
+import com.testinglaboratory.restassured.support.load.LoadReport;
+import com.testinglaboratory.restassured.support.load.OpenModelLoadDriver;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the cookie register/login/restricted resource journey at -Dload.rate journeys per second
+ * for -Dload.duration seconds (default 30) against the foundations application.
+ */
+@Slf4j
+@Tag("load")
+@RestAssuredTarget(ChallengeTarget.FOUNDATIONS)
+@EnabledIfSystemProperty(named = "load.rate", matches = "\\d+(\\.\\d+)?")
+class RestrictedResourceLoadTest {
+
+    @Test
+    void restrictedResourceJourneyUnderLoad(RequestSpecification foundations) throws InterruptedException {
+        OpenModelLoadDriver driver = new OpenModelLoadDriver(
+                Double.parseDouble(System.getProperty("load.rate")),
+                Duration.ofSeconds(Long.getLong("load.duration", 30)));
+
+        LoadReport report = driver.run(UserJourneys.restrictedResource(foundations));
+
+        log.info("Restricted resource journey:\n{}", report);
+        assertThat(report.getFailedJourneys())
+                .as("Failed journeys")
+                .isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.testinglaboratory.restassured.load;
+
+import com.testinglaboratory.restassured.primer.User;
+import com.testinglaboratory.restassured.support.load.Journey;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.apache.http.HttpStatus.SC_ACCEPTED;
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * The user journeys of the primer and cookie suites, as load-test scenarios.
+ */
+public final class UserJourneys {
+
+    private UserJourneys() {
+    }
+
+    /**
+     * Register, log in and fetch the hello-there flag, as RegistrationTest and LoginTest do.
+     */
+    public static Journey primerFlag(RequestSpecification primer) {
+        return steps -> {
+            User user = newUser();
+            steps.step("POST /register", () -> given(primer)
+                    .body(user)
+                    .post("/register")
+                    .then().statusCode(SC_CREATED)
+                    .extract().response());
+            steps.step("POST /login", () -> given(primer)
+                    .body(user)
+                    .post("/login")
+                    .then().statusCode(SC_ACCEPTED)
+                    .extract().response());
+            steps.step("GET /flag/{flagId}", () -> given(primer)
+                    .pathParam("flagId", 1)
+                    .get("/flag/{flagId}")
+                    .then().statusCode(SC_OK)
+                    .extract().response());
+        };
+    }
+
+    /**
+     * Register, log in and use the session cookies on the restricted resource, as CookiesButBetterTest does.
+     */
+    public static Journey restrictedResource(RequestSpecification foundations) {
+        return steps -> {
+            User user = newUser();
+            Map<String, String> credentials = Map.of("username", user.getUsername(), "password", user.getPassword());
+            steps.step("POST /register", () -> given(foundations)
+                    .header("Content-Type", "application/json")
+                    .header("accept", "application/json")
+                    .body(credentials)
+                    .post("/register")
+                    .then().statusCode(201)
+                    .extract().response());
+            Response login = steps.step("POST /login", () -> given(foundations)
+                    .header("Content-Type", "application/json")
+                    .header("accept", "application/json")
+                    .body(credentials)
+                    .post("/login")
+                    .then().statusCode(202)
+                    .extract().response());
+            steps.step("GET /for_logged_in_users_only", () -> given(foundations)
+                    .header("accept", "application/json")
+                    .cookies(login.cookies())
+                    .get("/for_logged_in_users_only")
+                    .then().statusCode(200)
+                    .extract().response());
+        };
+    }
+
+    private static User newUser() {
+        String id = UUID.randomUUID().toString();
+        return new User("load-" + id, id);
+    }
+}
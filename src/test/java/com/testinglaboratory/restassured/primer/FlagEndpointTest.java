@@ -1,7 +1,10 @@
 package com.testinglaboratory.restassured.primer;
 
-import io.restassured.RestAssured;
+import com.testinglaboratory.restassured.support.jfr.AssertionBlock;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -11,23 +14,24 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static io.restassured.RestAssured.given;
-import static io.restassured.RestAssured.when;
 import static org.apache.http.HttpStatus.SC_CREATED;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
+@RestAssuredTarget(ChallengeTarget.PRIMER)
 public class FlagEndpointTest {
 
+    private static RequestSpecification primer;
+
     @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "http://localhost:8082";
-        RestAssured.basePath = "/challenge/primer";
+    public static void setUp(RequestSpecification spec) {
+        primer = spec;
     }
 
     @Test
     void getHelloFlag() {
-        Response response = when().get("/flag/1")
+        Response response = given(primer).when().get("/flag/1")
                 .then().log().ifValidationFails()
                 .statusCode(SC_OK)
                 .extract()
@@ -39,17 +43,19 @@ public class FlagEndpointTest {
 
     @Test
     void getHelloFlagStatus() {
-        when().get("/flag/1")
+        Response response = given(primer).when().get("/flag/1");
+
+        AssertionBlock.hamcrest("hello flag status", () -> response
                 .then().log().ifValidationFails()
                 .statusCode(SC_OK)
-                .body("status", equalTo(200));
+                .body("status", equalTo(200)));
     }
 
     @Test
     @Disabled("Sumtin is no yes \"╯°□°）╯\"")
     @DisplayName("Hello there status a string")
     void getHelloFlagStatusFails() {
-        when().get("/flag/1")
+        given(primer).when().get("/flag/1")
                 .then().log().ifValidationFails()
                 .statusCode(SC_OK)
                 .body("status", equalTo("200"));
@@ -57,7 +63,7 @@ public class FlagEndpointTest {
 
     @Test
     void getKenobiFlag() {
-        Response response = when().get("/flag/6")
+        Response response = given(primer).when().get("/flag/6")
                 .then().log().ifValidationFails()
                 .statusCode(SC_OK)
                 .extract()
@@ -72,7 +78,7 @@ public class FlagEndpointTest {
     @DisplayName("Checking flag composition:")
     @ValueSource(ints = {1, 6})
     void checkFlagComposition(int flagId) {
-        Response response = given()
+        Response response = given(primer)
                 .contentType("application/json; charset=utf-8")
                 .pathParam("flagId", flagId)
                 .when()
@@ -89,12 +95,12 @@ public class FlagEndpointTest {
     @ParameterizedTest(name = "#{index} for flagId = {0}")
     @ValueSource(ints = {0, 2, 3, 4, 5, 7})
     void checkFlagNotFound(int flagId) {
-        Response response = given()
+        Response response = given(primer)
                 .contentType("application/json; charset=utf-8")
                 .pathParam("flagId", flagId)
                 .when()
                 .get("/flag/{flagId}")
-                .then().log().everything()
+                .then()
                 .statusCode(HttpStatus.SC_NOT_FOUND)
                 .extract()
                 .response();
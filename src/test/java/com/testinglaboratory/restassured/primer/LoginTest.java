@@ -1,65 +1,52 @@
 package com.testinglaboratory.restassured.primer;
 
-import com.github.javafaker.Faker;
-import io.restassured.RestAssured;
-import io.restassured.response.Response;
-import org.apache.http.HttpStatus;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
 import static org.apache.http.HttpStatus.SC_ACCEPTED;
-import static org.apache.http.HttpStatus.SC_CREATED;
 import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
 import static org.hamcrest.CoreMatchers.equalTo;
 
+@RestAssuredTarget(ChallengeTarget.PRIMER)
 class LoginTest {
-    private static final Faker faker = new Faker();
     private static User user;
 
+    private static RequestSpecification primer;
+
     @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "http://localhost:8082";
-        RestAssured.basePath = "/challenge/primer";
-        user = new User(faker.name().username(), faker.internet().password());
-        Response response = registerUser(user);
-        response.then().statusCode(SC_CREATED);
+    public static void setUp(RequestSpecification spec, Identity registered) {
+        primer = spec;
+        user = new User(registered.getUsername(), registered.getPassword());
     }
 
     @Test
     void loginValid() {
-        given()
+        given(primer)
                 .body(user)
                 .when()
                 .post("/login")
                 .then()
-                .log().everything()
                 .statusCode(SC_ACCEPTED);
     }
 
     @Test
     void loginInvalid() {
-        user.username += faker.number().digits(10);
-        given()
-                .body(user)
+        User intruder = new User(IdentityPool.next().getUsername(), user.password);
+        given(primer)
+                .body(intruder)
                 .when()
                 .post("/login")
                 .then()
-                .log().everything()
                 .statusCode(SC_UNAUTHORIZED)
                 .body("message",
                         equalTo("Failed to login. Wrong username or password."))
                 .body("flag",
                         equalTo("${flag_naughty_aint_ya}"));
     }
-
-
-    private static Response registerUser(User user) {
-        return given()
-                .body(user)
-                .post("/register")
-                .then().log().everything()
-                .extract()
-                .response();
-    }
 }
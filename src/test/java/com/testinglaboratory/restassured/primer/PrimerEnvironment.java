@@ -0,0 +1,24 @@
+package com.testinglaboratory.restassured.primer;
+
+import com.testinglaboratory.restassured.primer.stub.PrimerStubServer;
+
+/**
+ * Resolves where the primer suites send their requests.
+ * Pass -Dprimer.baseUri=http://localhost:8082 to run against the real rest-api-introduction-app,
+ * otherwise the embedded {@link PrimerStubServer} is started and used.
+ */
+public final class PrimerEnvironment {
+    public static final String BASE_URI_PROPERTY = "primer.baseUri";
+    public static final String BASE_PATH = PrimerStubServer.BASE_PATH;
+
+    private PrimerEnvironment() {
+    }
+
+    public static String baseUri() {
+        String baseUri = System.getProperty(BASE_URI_PROPERTY);
+        if (baseUri == null || baseUri.isBlank()) {
+            return PrimerStubServer.instance().baseUri();
+        }
+        return baseUri;
+    }
+}
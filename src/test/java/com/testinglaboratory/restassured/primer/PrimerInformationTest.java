@@ -1,33 +1,33 @@
 package com.testinglaboratory.restassured.primer;
 
 import com.github.javafaker.Faker;
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.Locale;
 
-import static io.restassured.RestAssured.when;
+import static io.restassured.RestAssured.given;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalToCompressingWhiteSpace;
 
+@RestAssuredTarget(ChallengeTarget.PRIMER)
 class PrimerInformationTest {
 
+    private static RequestSpecification primer;
+
     @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "http://localhost:8082";
-        RestAssured.basePath = "/challenge/primer";
-        RestAssured.requestSpecification = new RequestSpecBuilder()
-                .addHeader("Content-Type", "application/json; charset=utf-8")
-                .build();
+    public static void setUp(RequestSpecification spec) {
+        primer = spec;
     }
 
     @Test
     void checkInformation() {
-        when().get("/information")
+        given(primer).when().get("/information")
                 .then().log().ifValidationFails()
                 .statusCode(SC_OK)
                 .body("message", equalToCompressingWhiteSpace("Oi! W'at can I do for ya?" +
@@ -41,7 +41,7 @@ class PrimerInformationTest {
 
     @Test
     void checkTryout() {
-        when().get("/tryout")
+        given(primer).when().get("/tryout")
                 .then().log().ifValidationFails()
                 .statusCode(SC_OK)
                 .body("message", equalToCompressingWhiteSpace(
@@ -52,7 +52,7 @@ class PrimerInformationTest {
 
     @Test
     void checkFlagInformation() {
-        Response response = when().get("/flag")
+        Response response = given(primer).when().get("/flag")
                 .then().log().ifValidationFails()
                 .statusCode(SC_OK)
                 .extract()
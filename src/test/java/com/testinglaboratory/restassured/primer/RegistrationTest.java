@@ -1,11 +1,14 @@
 package com.testinglaboratory.restassured.primer;
 
 import com.github.javafaker.Faker;
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.path.json.config.JsonPathConfig;
+import com.testinglaboratory.restassured.support.jfr.AssertionBlock;
+import com.testinglaboratory.restassured.support.json.CompiledPath;
+import com.testinglaboratory.restassured.support.json.ParsedDocument;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -21,16 +24,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@RestAssuredTarget(ChallengeTarget.PRIMER)
 class RegistrationTest {
     private static final Faker faker = new Faker(new Locale("PL_pl"));
     private static final String KEY_PATTERN_MATCHER = "[a-f0-9]{8}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{12}";
+    private static final CompiledPath MESSAGE = CompiledPath.of("message");
+    private static final CompiledPath KEY = CompiledPath.of("key");
+    private static RequestSpecification primer;
+
     @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "http://localhost:8082";
-        RestAssured.basePath = "/challenge/primer";
-        RestAssured.requestSpecification = new RequestSpecBuilder()
-                .addHeader("Content-Type", "application/json; charset=utf-8")
-                .build();
+    public static void setUp(RequestSpecification spec) {
+        primer = spec;
     }
 
     @Test
@@ -38,7 +42,7 @@ class RegistrationTest {
         String username = String.format("%s.%s", faker.name().firstName(), faker.name().username());
         String password = faker.internet().password();
 
-        Response response = given()
+        Response response = given(primer)
                 .body(
                         Map.of(
                                 "username", username,
@@ -46,19 +50,21 @@ class RegistrationTest {
                         )
                 )
                 .post("/register")
-                .then().log().everything()
+                .then()
                 .statusCode(HttpStatus.SC_CREATED)
                 .extract()
                 .response();
 
-        assertThat(response.jsonPath().getString("message"))
-                .as("Confirmation that user has been successfully registered")
-                .isEqualTo(String.format("User %s registered", username))
-                .matches("User .* registered");
-        JsonPathConfig jsonPathConfig = new JsonPathConfig().charset("utf-8");
-        assertThat(response.jsonPath(jsonPathConfig).getString("key"))
-                .as("Generated UUID composition")
-                .matches(KEY_PATTERN_MATCHER);
+        ParsedDocument confirmation = ParsedDocument.of(response);
+        AssertionBlock.assertj("registration confirmation", () -> {
+            assertThat(confirmation.getString(MESSAGE))
+                    .as("Confirmation that user has been successfully registered")
+                    .isEqualTo(String.format("User %s registered", username))
+                    .matches("User .* registered");
+            assertThat(confirmation.getString(KEY))
+                    .as("Generated UUID composition")
+                    .matches(KEY_PATTERN_MATCHER);
+        });
     }
 
 
@@ -89,19 +95,19 @@ class RegistrationTest {
     }
 
     private Response registerUser(User user) {
-        return given()
+        return given(primer)
                 .body(user)
                 .post("/register")
-                .then().log().everything()
+                .then()
                 .extract()
                 .response();
     }
 
     private ValidatableResponse registerUser(User user, int statusCode) {
-        return given()
+        return given(primer)
                 .body(user)
                 .post("/register")
-                .then().log().everything()
+                .then()
                 .statusCode(statusCode)
                 .extract().response()
                 .then();
@@ -2,11 +2,12 @@ package com.testinglaboratory.restassured.primer.lifecyclefiddle;
 
 import com.github.javafaker.Faker;
 import com.testinglaboratory.restassured.primer.User;
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
 import io.restassured.path.json.config.JsonPathConfig;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -22,24 +23,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
 @TestInstance(TestInstance.Lifecycle.PER_METHOD)
+@RestAssuredTarget(ChallengeTarget.PRIMER)
 class RegistrationTestJunitLifecyclePerMethodTest {
     private static final Faker faker = new Faker(new Locale("PL_pl"));
     private final String username = faker.name().username();
     private final String password = faker.internet().password();
     private final User user = new User(username, password);
 
+    private static RequestSpecification primer;
+
     @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "http://localhost:8082";
-        RestAssured.basePath = "/challenge/primer";
-        RestAssured.requestSpecification = new RequestSpecBuilder()
-                .addHeader("Content-Type", "application/json; charset=utf-8")
-                .build();
+    public static void setUp(RequestSpecification spec) {
+        primer = spec;
     }
 
     @Test
     void registerUserTest() {
-        Response response = given()
+        Response response = given(primer)
                 .body(
                         Map.of(
                                 "username", username,
@@ -47,7 +47,7 @@ class RegistrationTestJunitLifecyclePerMethodTest {
                         )
                 )
                 .post("/register")
-                .then().log().everything()
+                .then()
                 .statusCode(HttpStatus.SC_CREATED)
                 .extract()
                 .response();
@@ -86,19 +86,19 @@ class RegistrationTestJunitLifecyclePerMethodTest {
     }
 
     private Response registerUser(User user) {
-        return given()
+        return given(primer)
                 .body(user)
                 .post("/register")
-                .then().log().everything()
+                .then()
                 .extract()
                 .response();
     }
 
     private ValidatableResponse registerUser(User user, int statusCode) {
-        return given()
+        return given(primer)
                 .body(user)
                 .post("/register")
-                .then().log().everything()
+                .then()
                 .statusCode(statusCode)
                 .extract().response()
                 .then();
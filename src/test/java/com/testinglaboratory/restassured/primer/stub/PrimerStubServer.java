@@ -0,0 +1,248 @@
+package com.testinglaboratory.restassured.primer.stub;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the primer challenge of rest-api-introduction-app.
+ * Serves /register, /login, /flag, /flag/{id}, /information and /tryout with the same payloads and flags
+ * as the real application. One instance is started lazily per JVM on an ephemeral port.
+ */
+@Slf4j
+public final class PrimerStubServer {
+    public static final String BASE_PATH = "/challenge/primer";
+
+    private static final String THREADS_PROPERTY = "primer.stub.threads";
+    private static final Pattern FLAG_ID = Pattern.compile("^/flag/([^/]+)$");
+    private static final Gson gson = new Gson();
+    private static PrimerStubServer instance;
+
+    private static final byte[] INFORMATION = message("Oi! W'at can I do for ya?" +
+            " In this primer for challenges you'll learn how to look for flags." +
+            " Remember that this is not purely technical task." +
+            " You'll role play and use your knowledge to find treasures your looking for." +
+            " If you have any questions - ask." +
+            " Try and found as many flags as possible.(Five, there are five.)" +
+            " begin with shooting at /tryout. ");
+    private static final byte[] TRYOUT = message("Good! Toy have tried to GET a resource." +
+            "Now you have to GET something else... /flag");
+    private static final byte[] FLAG_INFORMATION = json(Map.of(
+            "flag", "A flag has a form of ${<flag_name>}",
+            "message", "Use your exploratory skills and feel the challenge's theme to obtain flags"));
+    private static final byte[] ALREADY_REGISTERED = json(Map.of(
+            "message", "You are already registered in the Primer Challenge!",
+            "flag", "${flag_im_still_here_captain}"));
+    private static final byte[] WRONG_CREDENTIALS = json(Map.of(
+            "message", "Failed to login. Wrong username or password.",
+            "flag", "${flag_naughty_aint_ya}"));
+    private static final byte[] FLAG_NOT_FOUND = json(Map.of("flag", "Nope", "status", 404));
+    private static final byte[] NOT_FOUND = json(Map.of("detail", "Not Found"));
+    private static final byte[] METHOD_NOT_ALLOWED = json(Map.of("detail", "Method Not Allowed"));
+    private static final byte[] UNPROCESSABLE = json(Map.of("detail", "username and password are required"));
+    private static final Map<String, byte[]> FLAGS = Map.of(
+            "1", json(Map.of("flag", "${flag_hello_there}", "status", 200)),
+            "6", json(Map.of("flag", "${flag_general_kenobi}", "status", 200)));
+
+    private final Map<String, String> users = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private PrimerStubServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        executor = Executors.newFixedThreadPool(threads, daemonThreads());
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH, this::handle);
+        server.start();
+        log.info("Primer stub listening on {} with {} worker threads", baseUri(), threads);
+    }
+
+    /**
+     * Returns the JVM-wide stub, starting it on first use.
+     */
+    @SneakyThrows
+    public static synchronized PrimerStubServer instance() {
+        if (instance == null) {
+            int threads = Integer.getInteger(THREADS_PROPERTY, Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+            instance = new PrimerStubServer(threads);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "primer-stub-shutdown"));
+        }
+        return instance;
+    }
+
+    public String baseUri() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int registeredUsers() {
+        return users.size();
+    }
+
+    private void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(BASE_PATH.length());
+            String method = exchange.getRequestMethod();
+            switch (path) {
+                case "/information":
+                    get(exchange, method, INFORMATION);
+                    break;
+                case "/tryout":
+                    get(exchange, method, TRYOUT);
+                    break;
+                case "/flag":
+                    get(exchange, method, FLAG_INFORMATION);
+                    break;
+                case "/register":
+                    if (allows(exchange, method, "POST")) {
+                        register(exchange);
+                    }
+                    break;
+                case "/login":
+                    if (allows(exchange, method, "POST")) {
+                        login(exchange);
+                    }
+                    break;
+                default:
+                    Matcher flag = FLAG_ID.matcher(path);
+                    if (flag.matches()) {
+                        flag(exchange, method, flag.group(1));
+                    } else {
+                        send(exchange, 404, NOT_FOUND);
+                    }
+            }
+        }
+    }
+
+    private void get(HttpExchange exchange, String method, byte[] body) throws IOException {
+        if (allows(exchange, method, "GET")) {
+            send(exchange, 200, body);
+        }
+    }
+
+    private void flag(HttpExchange exchange, String method, String flagId) throws IOException {
+        if (!allows(exchange, method, "GET")) {
+            return;
+        }
+        if (!flagId.matches("-?\\d+")) {
+            send(exchange, 422, json(Map.of("detail", "flag_id must be an integer")));
+            return;
+        }
+        byte[] flag = FLAGS.get(new BigInteger(flagId).toString());
+        if (flag == null) {
+            send(exchange, 404, FLAG_NOT_FOUND);
+        } else {
+            send(exchange, 200, flag);
+        }
+    }
+
+    private void register(HttpExchange exchange) throws IOException {
+        JsonObject credentials = credentials(exchange);
+        if (credentials == null) {
+            send(exchange, 422, UNPROCESSABLE);
+            return;
+        }
+        String username = credentials.get("username").getAsString();
+        String password = credentials.get("password").getAsString();
+        if (users.putIfAbsent(username, password) != null) {
+            send(exchange, 400, ALREADY_REGISTERED);
+            return;
+        }
+        send(exchange, 201, json(Map.of(
+                "message", String.format("User %s registered", username),
+                "key", UUID.randomUUID().toString())));
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        JsonObject credentials = credentials(exchange);
+        if (credentials == null) {
+            send(exchange, 422, UNPROCESSABLE);
+            return;
+        }
+        String username = credentials.get("username").getAsString();
+        String password = credentials.get("password").getAsString();
+        if (!password.equals(users.get(username))) {
+            send(exchange, 401, WRONG_CREDENTIALS);
+            return;
+        }
+        send(exchange, 202, json(Map.of("message", String.format("User %s logged in", username))));
+    }
+
+    private static JsonObject credentials(HttpExchange exchange) {
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonObject credentials = JsonParser.parseReader(new InputStreamReader(body, StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+            if (isText(credentials, "username") && isText(credentials, "password")) {
+                return credentials;
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            log.debug("Rejecting malformed credentials", e);
+        }
+        return null;
+    }
+
+    private static boolean isText(JsonObject json, String member) {
+        return json.has(member) && json.get(member).isJsonPrimitive();
+    }
+
+    private static boolean allows(HttpExchange exchange, String method, String allowed) throws IOException {
+        if (allowed.equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", allowed);
+        send(exchange, 405, METHOD_NOT_ALLOWED);
+        return false;
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] message(String message) {
+        return json(Map.of("message", message));
+    }
+
+    private static byte[] json(Map<String, ?> payload) {
+        return gson.toJson(payload).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "primer-stub-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
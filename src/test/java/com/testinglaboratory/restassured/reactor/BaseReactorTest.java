@@ -1,20 +1,17 @@
 package com.testinglaboratory.restassured.reactor;
 
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.response.Response;
-import org.junit.jupiter.api.BeforeAll;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
 
+@RestAssuredTarget(ChallengeTarget.REACTOR)
 public abstract class BaseReactorTest {
+    protected RequestSpecification reactor;
 
-    @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "http://localhost:8083";
-        RestAssured.basePath = "/challenge/reactor";
-        RestAssured.requestSpecification = new RequestSpecBuilder()
-                .addHeader("Content-Type", "application/json; charset=utf-8")
-                .build();
-
+    @BeforeEach
+    public void setUp(RequestSpecification spec) {
+        reactor = spec;
     }
 
 
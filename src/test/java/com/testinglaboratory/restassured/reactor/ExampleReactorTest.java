@@ -1,23 +1,27 @@
 package com.testinglaboratory.restassured.reactor;
 
-import io.restassured.RestAssured;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static io.restassured.RestAssured.when;
+import static io.restassured.RestAssured.given;
 
+@RestAssuredTarget(ChallengeTarget.REACTOR)
 public class ExampleReactorTest {
 
+    private static RequestSpecification reactor;
+
     @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "http://localhost:8083";
-        RestAssured.basePath = "/challenge/reactor";
+    public static void setUp(RequestSpecification spec) {
+        reactor = spec;
     }
 
     @Test
     void checkInformation(){
-       when().get("/information")
+       given(reactor).when().get("/information")
        .then().log().everything();
     }
 }
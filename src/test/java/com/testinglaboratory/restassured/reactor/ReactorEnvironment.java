@@ -0,0 +1,24 @@
+package com.testinglaboratory.restassured.reactor;
+
+import com.testinglaboratory.restassured.reactor.stub.ReactorStubServer;
+
+/**
+ * Resolves where the reactor suites send their requests.
+ * Pass -Dreactor.baseUri=http://localhost:8083 to run against the real rest-api-introduction-app,
+ * otherwise the embedded {@link ReactorStubServer} is started and used.
+ */
+public final class ReactorEnvironment {
+    public static final String BASE_URI_PROPERTY = "reactor.baseUri";
+    public static final String BASE_PATH = ReactorStubServer.BASE_PATH;
+
+    private ReactorEnvironment() {
+    }
+
+    public static String baseUri() {
+        String baseUri = System.getProperty(BASE_URI_PROPERTY);
+        if (baseUri == null || baseUri.isBlank()) {
+            return ReactorStubServer.instance().baseUri();
+        }
+        return baseUri;
+    }
+}
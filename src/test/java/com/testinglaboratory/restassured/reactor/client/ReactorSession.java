@@ -0,0 +1,91 @@
+package com.testinglaboratory.restassured.reactor.client;
+
+import com.testinglaboratory.restassured.support.json.CompiledPath;
+import com.testinglaboratory.restassured.support.json.ParsedDocument;
+import com.testinglaboratory.restassured.support.load.JourneySteps;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.Getter;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * One visitor going through the reactor challenge: checks in at the desk for a key, then uses it in the control room.
+ * Calls are only allowed in the order of {@link ReactorTransition}; anything else fails before a request is sent.
+ * Sessions do not share state, so any number of them can run at the same time, and every call is timed
+ * under the name of its transition when a shared {@link JourneySteps} is given.
+ * <pre>
+ * ParsedDocument core = new ReactorSession(reactor).checkIn("Homer").enterControlRoom().inspectCore();
+ * </pre>
+ */
+public class ReactorSession {
+    private static final CompiledPath KEY = CompiledPath.of("key");
+
+    private final RequestSpecification spec;
+    private final JourneySteps steps;
+    @Getter
+    private ReactorState state = ReactorState.VISITOR;
+    @Getter
+    private String key;
+    @Getter
+    private ParsedDocument lastResponse;
+
+    public ReactorSession(RequestSpecification spec) {
+        this(spec, new JourneySteps());
+    }
+
+    public ReactorSession(RequestSpecification spec, JourneySteps steps) {
+        this.spec = spec;
+        this.steps = steps;
+    }
+
+    public ReactorSession checkIn(String name) {
+        advance(ReactorTransition.CHECK_IN, Map.of("name", name));
+        key = lastResponse.getString(KEY);
+        if (key == null) {
+            throw new IllegalStateException("The desk did not hand out a key: " + lastResponse.tree());
+        }
+        return this;
+    }
+
+    public ReactorSession enterControlRoom() {
+        advance(ReactorTransition.ENTER_CONTROL_ROOM, null);
+        return this;
+    }
+
+    public ParsedDocument readAnalysis() {
+        return advance(ReactorTransition.READ_ANALYSIS, null);
+    }
+
+    public ParsedDocument inspectCore() {
+        return advance(ReactorTransition.INSPECT_CORE, null);
+    }
+
+    /**
+     * Sends the request of the transition and moves to its target state once it answered with a 2xx status.
+     */
+    public ParsedDocument advance(ReactorTransition transition, Object body) {
+        if (!transition.isAllowedFrom(state)) {
+            throw new IllegalStateException(transition + " is not possible in state " + state);
+        }
+        lastResponse = steps.step(transition.name(), () -> {
+            RequestSpecification request = given(spec);
+            if (key != null) {
+                request.pathParam("key", key);
+            }
+            if (body != null) {
+                request.body(body);
+            }
+            Response response = request.request(transition.method(), transition.path());
+            response.then().statusCode(allOf(greaterThanOrEqualTo(200), lessThan(300)));
+            return ParsedDocument.of(response);
+        });
+        state = transition.target();
+        return lastResponse;
+    }
+}
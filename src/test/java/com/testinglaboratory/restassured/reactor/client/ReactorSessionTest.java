@@ -0,0 +1,89 @@
+package com.testinglaboratory.restassured.reactor.client;
+
+import com.testinglaboratory.restassured.support.json.CompiledPath;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.apache.http.HttpStatus.SC_FORBIDDEN;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Walks {@link ReactorSession} through every {@link ReactorTransition}. Runs against the embedded reactor stand-in
+ * unless -Dreactor.baseUri points at the application.
+ */
+@RestAssuredTarget(ChallengeTarget.REACTOR)
+class ReactorSessionTest {
+    private static final CompiledPath MESSAGE = CompiledPath.of("message");
+
+    private static RequestSpecification reactor;
+
+    @BeforeAll
+    public static void setUp(RequestSpecification spec) {
+        reactor = spec;
+    }
+
+    @Test
+    void visitorGoesFromTheDeskToTheReactorCore() {
+        ReactorSession session = new ReactorSession(reactor);
+        assertThat(session.getState()).isEqualTo(ReactorState.VISITOR);
+
+        session.checkIn("Homer");
+        assertThat(session.getState()).isEqualTo(ReactorState.CHECKED_IN);
+        assertThat(session.getKey()).isNotBlank();
+
+        session.enterControlRoom();
+        assertThat(session.getState()).isEqualTo(ReactorState.IN_CONTROL_ROOM);
+
+        assertThat(session.readAnalysis().getString(MESSAGE)).isNotBlank();
+        assertThat(session.inspectCore().getString(MESSAGE)).isNotBlank();
+        assertThat(session.getState()).isEqualTo(ReactorState.IN_CONTROL_ROOM);
+    }
+
+    @Test
+    void transitionsOutOfOrderAreRefusedBeforeAnyRequest() {
+        ReactorSession session = new ReactorSession(reactor);
+        assertThatIllegalStateException().isThrownBy(session::enterControlRoom);
+        assertThatIllegalStateException().isThrownBy(session::inspectCore);
+        assertThat(session.getState()).isEqualTo(ReactorState.VISITOR);
+        assertThat(session.getLastResponse()).isNull();
+
+        session.checkIn("Marge");
+        assertThatIllegalStateException().isThrownBy(session::readAnalysis);
+        assertThatIllegalStateException().isThrownBy(() -> session.checkIn("Marge"));
+        assertThat(session.getState()).isEqualTo(ReactorState.CHECKED_IN);
+    }
+
+    @Test
+    void reactorCoreIsClosedUntilTheKeyEnteredTheControlRoom() {
+        ReactorSession session = new ReactorSession(reactor).checkIn("Bart");
+
+        given(reactor).pathParam("key", session.getKey())
+                .get(ReactorTransition.INSPECT_CORE.path())
+                .then()
+                .statusCode(SC_FORBIDDEN);
+
+        session.enterControlRoom();
+        given(reactor).pathParam("key", session.getKey())
+                .get(ReactorTransition.INSPECT_CORE.path())
+                .then()
+                .statusCode(SC_OK);
+    }
+
+    @Test
+    void sessionsDoNotShareKeys() {
+        ReactorSession homer = new ReactorSession(reactor).checkIn("Homer").enterControlRoom();
+        ReactorSession lisa = new ReactorSession(reactor).checkIn("Lisa");
+
+        assertThat(lisa.getKey()).isNotEqualTo(homer.getKey());
+        given(reactor).pathParam("key", lisa.getKey())
+                .get(ReactorTransition.READ_ANALYSIS.path())
+                .then()
+                .statusCode(SC_FORBIDDEN);
+    }
+}
@@ -0,0 +1,10 @@
+package com.testinglaboratory.restassured.reactor.client;
+
+/**
+ * Where a visitor of the reactor challenge currently is.
+ */
+public enum ReactorState {
+    VISITOR,
+    CHECKED_IN,
+    IN_CONTROL_ROOM
+}
@@ -0,0 +1,47 @@
+package com.testinglaboratory.restassured.reactor.client;
+
+import io.restassured.http.Method;
+
+import static com.testinglaboratory.restassured.reactor.client.ReactorState.CHECKED_IN;
+import static com.testinglaboratory.restassured.reactor.client.ReactorState.IN_CONTROL_ROOM;
+import static com.testinglaboratory.restassured.reactor.client.ReactorState.VISITOR;
+
+/**
+ * Requests of the reactor challenge as moves between {@link ReactorState}s.
+ * Paths are relative to the /challenge/reactor base path; {key} is the key handed out at the desk.
+ * This is the only place that knows the endpoints, so adjust it here if the application changes them.
+ */
+public enum ReactorTransition {
+    CHECK_IN(VISITOR, CHECKED_IN, Method.POST, "/desk"),
+    ENTER_CONTROL_ROOM(CHECKED_IN, IN_CONTROL_ROOM, Method.GET, "/{key}/control_room"),
+    READ_ANALYSIS(IN_CONTROL_ROOM, IN_CONTROL_ROOM, Method.GET, "/{key}/control_room/analysis"),
+    INSPECT_CORE(IN_CONTROL_ROOM, IN_CONTROL_ROOM, Method.GET, "/{key}/reactor_core");
+
+    private final ReactorState from;
+    private final ReactorState to;
+    private final Method method;
+    private final String path;
+
+    ReactorTransition(ReactorState from, ReactorState to, Method method, String path) {
+        this.from = from;
+        this.to = to;
+        this.method = method;
+        this.path = path;
+    }
+
+    public boolean isAllowedFrom(ReactorState state) {
+        return from == state;
+    }
+
+    public ReactorState target() {
+        return to;
+    }
+
+    public Method method() {
+        return method;
+    }
+
+    public String path() {
+        return path;
+    }
+}
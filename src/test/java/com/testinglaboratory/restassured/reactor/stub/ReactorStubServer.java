@@ -0,0 +1,213 @@
+package com.testinglaboratory.restassured.reactor.stub;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the reactor challenge of rest-api-introduction-app.
+ * Serves /information, /desk, /{key}/control_room, /{key}/control_room/analysis and /{key}/reactor_core
+ * and remembers per key whether its visitor has entered the control room yet, so calls made out of order are
+ * refused with 403. The paths follow ReactorTransition; the payloads only carry what the client reads
+ * (the key) and have not been compared with the real application.
+ * One instance is started lazily per JVM on an ephemeral port.
+ */
+@Slf4j
+public final class ReactorStubServer {
+    public static final String BASE_PATH = "/challenge/reactor";
+
+    private static final String THREADS_PROPERTY = "reactor.stub.threads";
+    private static final Pattern KEY_PATH = Pattern.compile("^/([^/]+)(/.*)$");
+    private static final Gson gson = new Gson();
+    private static ReactorStubServer instance;
+
+    private static final byte[] INFORMATION = message("Welcome to the reactor." +
+            " Check in at the /desk with your name to get a key, then use it to enter the control room.");
+    private static final byte[] CONTROL_ROOM = message("You are in the control room." +
+            " Read the /analysis or go and inspect the /reactor_core.");
+    private static final byte[] ANALYSIS = json(Map.of("message", "Analysis of the reactor", "core", "stable"));
+    private static final byte[] REACTOR_CORE = json(Map.of("message", "The reactor core is humming", "core", "stable"));
+    private static final byte[] NOT_IN_CONTROL_ROOM = json(Map.of("detail", "Enter the control room first"));
+    private static final byte[] UNKNOWN_KEY = json(Map.of("detail", "Unknown key, check in at the desk"));
+    private static final byte[] NOT_FOUND = json(Map.of("detail", "Not Found"));
+    private static final byte[] METHOD_NOT_ALLOWED = json(Map.of("detail", "Method Not Allowed"));
+    private static final byte[] UNPROCESSABLE = json(Map.of("detail", "name is required"));
+    private static final String CONTROL_ROOM_PATH = "/control_room";
+    private static final Map<String, byte[]> ROOMS = Map.of(
+            CONTROL_ROOM_PATH, CONTROL_ROOM,
+            "/control_room/analysis", ANALYSIS,
+            "/reactor_core", REACTOR_CORE);
+
+    /**
+     * Whether the visitor holding the key has entered the control room, per key handed out at the desk.
+     */
+    private final Map<String, Boolean> visitors = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private ReactorStubServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        executor = Executors.newFixedThreadPool(threads, daemonThreads());
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH, this::handle);
+        server.start();
+        log.info("Reactor stub listening on {} with {} worker threads", baseUri(), threads);
+    }
+
+    /**
+     * Returns the JVM-wide stub, starting it on first use.
+     */
+    @SneakyThrows
+    public static synchronized ReactorStubServer instance() {
+        if (instance == null) {
+            int threads = Integer.getInteger(THREADS_PROPERTY, Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+            instance = new ReactorStubServer(threads);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "reactor-stub-shutdown"));
+        }
+        return instance;
+    }
+
+    public String baseUri() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int checkedInVisitors() {
+        return visitors.size();
+    }
+
+    private void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(BASE_PATH.length());
+            String method = exchange.getRequestMethod();
+            switch (path) {
+                case "/information":
+                    if (allows(exchange, method, "GET")) {
+                        send(exchange, 200, INFORMATION);
+                    }
+                    break;
+                case "/desk":
+                    if (allows(exchange, method, "POST")) {
+                        checkIn(exchange);
+                    }
+                    break;
+                default:
+                    Matcher keyPath = KEY_PATH.matcher(path);
+                    if (keyPath.matches()) {
+                        visit(exchange, method, keyPath.group(1), keyPath.group(2));
+                    } else {
+                        send(exchange, 404, NOT_FOUND);
+                    }
+            }
+        }
+    }
+
+    private void checkIn(HttpExchange exchange) throws IOException {
+        String name = name(exchange);
+        if (name == null) {
+            send(exchange, 422, UNPROCESSABLE);
+            return;
+        }
+        String key = UUID.randomUUID().toString();
+        visitors.put(key, false);
+        send(exchange, 201, json(Map.of(
+                "message", String.format("Welcome %s, here is your key", name),
+                "key", key)));
+    }
+
+    private void visit(HttpExchange exchange, String method, String key, String room) throws IOException {
+        byte[] body = ROOMS.get(room);
+        if (body == null) {
+            send(exchange, 404, NOT_FOUND);
+            return;
+        }
+        if (!allows(exchange, method, "GET")) {
+            return;
+        }
+        Boolean inControlRoom = visitors.get(key);
+        if (inControlRoom == null) {
+            send(exchange, 404, UNKNOWN_KEY);
+            return;
+        }
+        if (CONTROL_ROOM_PATH.equals(room)) {
+            visitors.put(key, true);
+        } else if (!inControlRoom) {
+            send(exchange, 403, NOT_IN_CONTROL_ROOM);
+            return;
+        }
+        send(exchange, 200, body);
+    }
+
+    private static String name(HttpExchange exchange) {
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonObject visitor = JsonParser.parseReader(new InputStreamReader(body, StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+            if (visitor.has("name") && visitor.get("name").isJsonPrimitive()) {
+                return visitor.get("name").getAsString();
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            log.debug("Rejecting malformed check-in", e);
+        }
+        return null;
+    }
+
+    private static boolean allows(HttpExchange exchange, String method, String allowed) throws IOException {
+        if (allowed.equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", allowed);
+        send(exchange, 405, METHOD_NOT_ALLOWED);
+        return false;
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] message(String message) {
+        return json(Map.of("message", message));
+    }
+
+    private static byte[] json(Map<String, ?> payload) {
+        return gson.toJson(payload).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "reactor-stub-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.testinglaboratory.restassured.support.async;
+
+import com.testinglaboratory.restassured.support.capture.ExchangeCaptureFilter;
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Sends requests in the background so independent calls overlap instead of running one after another.
+ * Every request gets its own copy of the specification. All instances share one executor whose size defaults to
+ * the connection pool's per-route limit (-Drestassured.async.threads to override), so requests do not queue
+ * for connections inside the client.
+ * <pre>
+ * AsyncRequests async = new AsyncRequests(foundations);
+ * Map&lt;Integer, ValidatableResponse&gt; humans = async.await(async.forEach(humanIds,
+ *         (spec, id) -&gt; spec.pathParam("humanId", id).get("/human/{humanId}").then().statusCode(200)));
+ * </pre>
+ */
+public class AsyncRequests {
+    public static final String THREADS_PROPERTY = "restassured.async.threads";
+    public static final String TIMEOUT_PROPERTY = "restassured.async.timeout";
+
+    private static final ExecutorService executor = executor(Integer.getInteger(THREADS_PROPERTY,
+            Integer.getInteger(RestAssuredConfigFactory.MAX_PER_ROUTE_PROPERTY, 20)));
+
+    private final RequestSpecification spec;
+
+    public AsyncRequests(RequestSpecification spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * Starts one request; the function receives a fresh specification and returns whatever the test needs from it.
+     */
+    public <T> CompletableFuture<T> send(Function<RequestSpecification, T> request) {
+        return CompletableFuture.supplyAsync(
+                ExchangeCaptureFilter.bindToCurrentTest(() -> request.apply(given(spec))), executor);
+    }
+
+    /**
+     * Starts one request per key. The map completes when all requests finished and keeps the order of the keys;
+     * it completes exceptionally if any request failed.
+     */
+    public <K, T> CompletableFuture<Map<K, T>> forEach(Collection<K> keys, BiFunction<RequestSpecification, K, T> request) {
+        List<K> order = new ArrayList<>(keys);
+        List<CompletableFuture<T>> futures = new ArrayList<>(order.size());
+        for (K key : order) {
+            futures.add(send(spec -> request.apply(spec, key)));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(done -> {
+            Map<K, T> results = new LinkedHashMap<>(order.size() * 2);
+            for (int i = 0; i < order.size(); i++) {
+                results.put(order.get(i), futures.get(i).join());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Waits at most -Drestassured.async.timeout seconds (default 60) and rethrows the failure of the request as is,
+     * so assertion errors read the same as in synchronous tests.
+     */
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(Long.getLong(TIMEOUT_PROPERTY, 60), TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("Requests did not complete in time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for requests", e);
+        }
+    }
+
+    private static ExecutorService executor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "async-request-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
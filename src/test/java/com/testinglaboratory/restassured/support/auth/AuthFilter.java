@@ -0,0 +1,138 @@
+package com.testinglaboratory.restassured.support.auth;
+
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.session.SessionCache;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Authenticates requests of a specification and counts, per scheme, how many round trips that took
+ * (see {@link AuthMetrics}). Header values are computed once when the filter is created, so instances
+ * are meant to be kept in constants and shared:
+ * <pre>
+ * private static final AuthFilter SIARRA = AuthFilter.preemptiveBasic("SeniorSiarra", "JurekKiler");
+ *
+ * given(foundations).filter(SIARRA).get("/users/me");
+ * </pre>
+ * Counting relies on the pooled client of {@link RestAssuredConfigFactory}, which every target specification uses.
+ */
+public abstract class AuthFilter implements Filter {
+    private final String scheme;
+
+    protected AuthFilter(String scheme) {
+        this.scheme = scheme;
+    }
+
+    /**
+     * Sends the Authorization header with the first request instead of waiting for a 401 challenge.
+     */
+    public static AuthFilter preemptiveBasic(String username, String password) {
+        String value = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        return header("basic-preemptive", "Authorization", value);
+    }
+
+    /**
+     * RestAssured's {@code auth().basic(...)}: credentials are only sent after the server challenged the request,
+     * so every call costs two round trips. Kept to compare against {@link #preemptiveBasic(String, String)}.
+     */
+    public static AuthFilter challengeBasic(String username, String password) {
+        return new AuthFilter("basic-challenge") {
+            @Override
+            protected void authenticate(FilterableRequestSpecification request) {
+                request.auth().basic(username, password);
+            }
+        };
+    }
+
+    public static AuthFilter apiKey(String headerName, String key) {
+        return header("api-key", headerName, key);
+    }
+
+    /**
+     * Sends the user's cookies from the session cache, logging in on first use. A 401 or 403 drops the session
+     * the request was sent with, so the next request logs in again.
+     */
+    public static AuthFilter cookieSession(SessionCache sessions, Identity user) {
+        return new AuthFilter("cookie-session") {
+            // the header is rendered again only when the cache hands out a new session
+            private volatile RenderedCookies rendered;
+
+            @Override
+            protected void authenticate(FilterableRequestSpecification request) {
+                Map<String, String> cookies = sessions.cookies(user);
+                RenderedCookies current = rendered;
+                if (current == null || current.cookies != cookies) {
+                    current = new RenderedCookies(cookies);
+                    rendered = current;
+                }
+                request.replaceHeader("Cookie", current.header);
+            }
+
+            @Override
+            protected void rejected(FilterableRequestSpecification request, Response response) {
+                RenderedCookies current = rendered;
+                if (current != null && current.header.equals(request.getHeaders().getValue("Cookie"))) {
+                    sessions.invalidate(user, current.cookies);
+                }
+            }
+        };
+    }
+
+    public String scheme() {
+        return scheme;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        authenticate(requestSpec);
+        long sentBefore = RestAssuredConfigFactory.requestsSentByCurrentThread();
+        Response response = ctx.next(requestSpec, responseSpec);
+        AuthMetrics.record(scheme, RestAssuredConfigFactory.requestsSentByCurrentThread() - sentBefore,
+                response.statusCode());
+        if (response.statusCode() == 401 || response.statusCode() == 403) {
+            rejected(requestSpec, response);
+        }
+        return response;
+    }
+
+    protected abstract void authenticate(FilterableRequestSpecification request);
+
+    protected void rejected(FilterableRequestSpecification request, Response response) {
+    }
+
+    private static AuthFilter header(String scheme, String name, String value) {
+        return new AuthFilter(scheme) {
+            @Override
+            protected void authenticate(FilterableRequestSpecification request) {
+                request.replaceHeader(name, value);
+            }
+        };
+    }
+
+    private static String cookieHeader(Map<String, String> cookies) {
+        return cookies.entrySet().stream()
+                .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                .collect(Collectors.joining("; "));
+    }
+
+    private static final class RenderedCookies {
+        private final Map<String, String> cookies;
+        private final String header;
+
+        private RenderedCookies(Map<String, String> cookies) {
+            this.cookies = cookies;
+            this.header = cookieHeader(cookies);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.testinglaboratory.restassured.support.auth;
+
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.session.SessionCache;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips counted by {@link AuthFilter} against a local server that answers 401 with a Basic challenge
+ * until the request carries the right credentials, and serves /session/me only to a session cookie it handed out
+ * on /session/login.
+ */
+public class AuthFilterTest {
+    private static final String USERNAME = "SeniorSiarra";
+    private static final String PASSWORD = "JurekKiler";
+    private static final int REQUESTS = 5;
+
+    private static final AtomicInteger logins = new AtomicInteger();
+    private static final Set<String> liveSessions = ConcurrentHashMap.newKeySet();
+
+    private static HttpServer server;
+    private static RequestSpecification challenging;
+
+    @BeforeAll
+    public static void startChallengingServer() throws IOException {
+        String expected = "Basic " + Base64.getEncoder()
+                .encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/users/me", exchange -> {
+            try (exchange) {
+                boolean authorized = expected.equals(exchange.getRequestHeaders().getFirst("Authorization"));
+                byte[] body = (authorized ? "{\"username\":\"" + USERNAME + "\"}" : "{}")
+                        .getBytes(StandardCharsets.UTF_8);
+                if (!authorized) {
+                    exchange.getResponseHeaders().set("WWW-Authenticate", "Basic realm=\"users\"");
+                }
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(authorized ? 200 : 401, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.createContext("/session/login", AuthFilterTest::login);
+        server.createContext("/session/me", AuthFilterTest::sessionUser);
+        server.start();
+        challenging = given()
+                .config(RestAssuredConfigFactory.pooled())
+                .baseUri("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    public static void stopChallengingServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void preemptiveBasicCostsOneRoundTripPerRequest() {
+        AuthFilter preemptive = AuthFilter.preemptiveBasic(USERNAME, PASSWORD);
+        long requestsBefore = AuthMetrics.requests(preemptive.scheme());
+        long roundTripsBefore = AuthMetrics.roundTrips(preemptive.scheme());
+
+        for (int i = 0; i < REQUESTS; i++) {
+            given(challenging).filter(preemptive).get("/users/me").then().statusCode(200);
+        }
+
+        long requests = AuthMetrics.requests(preemptive.scheme()) - requestsBefore;
+        long roundTrips = AuthMetrics.roundTrips(preemptive.scheme()) - roundTripsBefore;
+        assertThat(requests).isEqualTo(REQUESTS);
+        assertThat(roundTrips).isEqualTo(requests);
+    }
+
+    @Test
+    public void challengeBasicCostsTwoRoundTripsPerRequest() {
+        AuthFilter challenge = AuthFilter.challengeBasic(USERNAME, PASSWORD);
+        long requestsBefore = AuthMetrics.requests(challenge.scheme());
+        long roundTripsBefore = AuthMetrics.roundTrips(challenge.scheme());
+
+        for (int i = 0; i < REQUESTS; i++) {
+            given(challenging).filter(challenge).get("/users/me").then().statusCode(200);
+        }
+
+        long requests = AuthMetrics.requests(challenge.scheme()) - requestsBefore;
+        long roundTrips = AuthMetrics.roundTrips(challenge.scheme()) - roundTripsBefore;
+        assertThat(requests).isEqualTo(REQUESTS);
+        assertThat(roundTrips).isEqualTo(2 * requests);
+    }
+
+    @Test
+    public void cookieSessionLogsInOnceAndCostsOneRoundTripPerRequest() {
+        SessionCache sessions = new SessionCache(given(challenging).basePath("/session"));
+        AuthFilter session = AuthFilter.cookieSession(sessions, IdentityPool.next());
+        int loginsBefore = logins.get();
+        long requestsBefore = AuthMetrics.requests(session.scheme());
+        long roundTripsBefore = AuthMetrics.roundTrips(session.scheme());
+
+        for (int i = 0; i < REQUESTS; i++) {
+            given(challenging).filter(session).get("/session/me").then().statusCode(200);
+        }
+
+        long requests = AuthMetrics.requests(session.scheme()) - requestsBefore;
+        long roundTrips = AuthMetrics.roundTrips(session.scheme()) - roundTripsBefore;
+        assertThat(requests).isEqualTo(REQUESTS);
+        assertThat(roundTrips).isEqualTo(requests);
+        assertThat(logins.get() - loginsBefore).isEqualTo(1);
+    }
+
+    @Test
+    public void rejectedCookieSessionLogsInAgainOnTheNextRequest() {
+        SessionCache sessions = new SessionCache(given(challenging).basePath("/session"));
+        Identity user = IdentityPool.next();
+        AuthFilter session = AuthFilter.cookieSession(sessions, user);
+        given(challenging).filter(session).get("/session/me").then().statusCode(200);
+        int loginsBefore = logins.get();
+
+        // the server forgets every session, e.g. after a restart
+        liveSessions.clear();
+        given(challenging).filter(session).get("/session/me").then().statusCode(401);
+        given(challenging).filter(session).get("/session/me").then().statusCode(200);
+
+        assertThat(logins.get() - loginsBefore).isEqualTo(1);
+    }
+
+    private static void login(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String username = JsonParser.parseReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))
+                    .getAsJsonObject().get("username").getAsString();
+            logins.incrementAndGet();
+            String session = UUID.randomUUID().toString();
+            liveSessions.add(session);
+            exchange.getResponseHeaders().add("Set-Cookie", "session=" + session);
+            send(exchange, 202, "{\"message\":\"User " + username + " logged in\"}");
+        }
+    }
+
+    private static void sessionUser(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            boolean live = cookie != null && cookie.startsWith("session=")
+                    && liveSessions.contains(cookie.substring("session=".length()));
+            send(exchange, live ? 200 : 401, live ? "{\"session\":\"live\"}" : "{}");
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.testinglaboratory.restassured.support.auth;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Requests sent through {@link AuthFilter}s and the round trips they cost, per scheme.
+ * More round trips than requests means the scheme pays for challenges; the totals are logged when the JVM exits.
+ */
+@Slf4j
+public final class AuthMetrics {
+    private static final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (!counters.isEmpty()) {
+                log.info("Authentication round trips at exit:\n{}", render());
+            }
+        }, "auth-metrics"));
+    }
+
+    private AuthMetrics() {
+    }
+
+    public static long requests(String scheme) {
+        Counters counts = counters.get(scheme);
+        return counts == null ? 0 : counts.requests.sum();
+    }
+
+    public static long roundTrips(String scheme) {
+        Counters counts = counters.get(scheme);
+        return counts == null ? 0 : counts.roundTrips.sum();
+    }
+
+    public static long unauthorized(String scheme) {
+        Counters counts = counters.get(scheme);
+        return counts == null ? 0 : counts.unauthorized.sum();
+    }
+
+    public static void reset() {
+        counters.clear();
+    }
+
+    public static String render() {
+        StringBuilder table = new StringBuilder(String.format("%-18s %9s %11s %9s %13s%n",
+                "scheme", "requests", "round trips", "per req", "unauthorized"));
+        new TreeMap<>(counters).forEach((scheme, counts) -> {
+            long requests = counts.requests.sum();
+            long roundTrips = counts.roundTrips.sum();
+            table.append(String.format("%-18s %9d %11d %9.2f %13d%n", scheme, requests, roundTrips,
+                    requests == 0 ? 0.0 : (double) roundTrips / requests, counts.unauthorized.sum()));
+        });
+        return table.toString();
+    }
+
+    static void record(String scheme, long roundTrips, int statusCode) {
+        Counters counts = counters.computeIfAbsent(scheme, key -> new Counters());
+        counts.requests.increment();
+        counts.roundTrips.add(roundTrips);
+        if (statusCode == 401 || statusCode == 403) {
+            counts.unauthorized.increment();
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAdder unauthorized = new LongAdder();
+    }
+}
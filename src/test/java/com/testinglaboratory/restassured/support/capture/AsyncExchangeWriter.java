@@ -0,0 +1,51 @@
+package com.testinglaboratory.restassured.support.capture;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Formats and logs every exchange on a background thread, for runs where all traffic should be logged.
+ * Test threads only enqueue; when the queue is full the exchange is dropped and counted rather than blocking the test.
+ */
+@Slf4j
+class AsyncExchangeWriter {
+    private final BlockingQueue<CapturedExchange> queue;
+    private final LongAdder dropped = new LongAdder();
+
+    AsyncExchangeWriter(int capacity) {
+        queue = new ArrayBlockingQueue<>(capacity);
+        Thread writer = new Thread(this::drain, "exchange-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "exchange-writer-flush"));
+    }
+
+    void write(CapturedExchange exchange) {
+        if (!queue.offer(exchange)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                log.info("{}", queue.take().format());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush() {
+        CapturedExchange exchange;
+        while ((exchange = queue.poll()) != null) {
+            log.info("{}", exchange.format());
+        }
+        if (dropped.sum() > 0) {
+            log.warn("{} exchanges were not logged because the writer queue was full", dropped.sum());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.testinglaboratory.restassured.support.capture;
+
+import io.restassured.http.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One request/response pair exactly as it was captured. Nothing is formatted until {@link #format()} is called.
+ */
+public class CapturedExchange {
+    private static final int MAX_BODY_CHARS = 16 * 1024;
+
+    private final long timestampMillis;
+    private final long elapsedNanos;
+    private final String method;
+    private final String uri;
+    private final Headers requestHeaders;
+    private final Object requestBody;
+    private final String statusLine;
+    private final Headers responseHeaders;
+    private final byte[] responseBody;
+
+    CapturedExchange(long timestampMillis, long elapsedNanos, String method, String uri, Headers requestHeaders,
+                     Object requestBody, String statusLine, Headers responseHeaders, byte[] responseBody) {
+        this.timestampMillis = timestampMillis;
+        this.elapsedNanos = elapsedNanos;
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody;
+        this.statusLine = statusLine;
+        this.responseHeaders = responseHeaders;
+        this.responseBody = responseBody;
+    }
+
+    public String format() {
+        StringBuilder text = new StringBuilder(512)
+                .append(method).append(' ').append(uri)
+                .append(String.format(" (%tT.%<tL, %.1f ms)%n", timestampMillis, elapsedNanos / 1e6));
+        requestHeaders.forEach(header -> text.append("> ").append(header).append(System.lineSeparator()));
+        body(text, requestBody instanceof byte[] ? new String((byte[]) requestBody, StandardCharsets.UTF_8) : requestBody);
+        text.append("< ").append(statusLine).append(System.lineSeparator());
+        responseHeaders.forEach(header -> text.append("< ").append(header).append(System.lineSeparator()));
+        body(text, responseBody == null ? null : new String(responseBody, StandardCharsets.UTF_8));
+        return text.toString();
+    }
+
+    private static void body(StringBuilder text, Object body) {
+        if (body == null) {
+            return;
+        }
+        String content = String.valueOf(body);
+        if (content.length() > MAX_BODY_CHARS) {
+            content = content.substring(0, MAX_BODY_CHARS) + "... (" + content.length() + " chars)";
+        }
+        text.append(System.lineSeparator()).append(content).append(System.lineSeparator());
+    }
+}
@@ -0,0 +1,87 @@
+package com.testinglaboratory.restassured.support.capture;
+
+import com.testinglaboratory.restassured.support.json.StreamingBody;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.function.Supplier;
+
+/**
+ * Records every exchange of the current test into its {@link ExchangeRingBuffer} without formatting it,
+ * as a cheap replacement for {@code .log().everything()}. {@link FailureLogExtension} prints the buffer
+ * when the test fails.
+ * <p>
+ * With -Dcapture.mode=always every exchange is additionally logged by a background writer
+ * (queue size -Dcapture.queue, default 10000).
+ */
+public class ExchangeCaptureFilter implements Filter {
+    public static final String MODE_PROPERTY = "capture.mode";
+    public static final String QUEUE_PROPERTY = "capture.queue";
+
+    private static final ThreadLocal<ExchangeRingBuffer> currentTest = new ThreadLocal<>();
+    private static final AsyncExchangeWriter alwaysOn = "always".equals(System.getProperty(MODE_PROPERTY))
+            ? new AsyncExchangeWriter(Integer.getInteger(QUEUE_PROPERTY, 10_000))
+            : null;
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ExchangeRingBuffer buffer = currentTest.get();
+        if (buffer == null && alwaysOn == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        CapturedExchange exchange = new CapturedExchange(timestamp, System.nanoTime() - start,
+                requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders(), requestSpec.getBody(),
+                response.getStatusLine(), response.getHeaders(), isStreamed(requestSpec) ? null : response.asByteArray());
+        if (buffer != null) {
+            buffer.add(exchange);
+        }
+        if (alwaysOn != null) {
+            alwaysOn.write(exchange);
+        }
+        return response;
+    }
+
+    // reading a streamed body here would buffer it whole before the test gets to consume it
+    private static boolean isStreamed(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getDefinedFilters().stream().anyMatch(StreamingBody.class::isInstance);
+    }
+
+    /**
+     * Wraps work that is handed to another thread so its exchanges still land in the current test's buffer.
+     */
+    public static <T> Supplier<T> bindToCurrentTest(Supplier<T> work) {
+        ExchangeRingBuffer buffer = currentTest.get();
+        if (buffer == null) {
+            return work;
+        }
+        return () -> {
+            ExchangeRingBuffer outer = currentTest.get();
+            currentTest.set(buffer);
+            try {
+                return work.get();
+            } finally {
+                if (outer == null) {
+                    currentTest.remove();
+                } else {
+                    currentTest.set(outer);
+                }
+            }
+        };
+    }
+
+    static void startCapturing(ExchangeRingBuffer buffer) {
+        currentTest.set(buffer);
+    }
+
+    static void stopCapturing() {
+        currentTest.remove();
+    }
+}
@@ -0,0 +1,37 @@
+package com.testinglaboratory.restassured.support.capture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recent exchanges of one test. Older exchanges are overwritten once the buffer is full.
+ */
+class ExchangeRingBuffer {
+    private final CapturedExchange[] exchanges;
+    private long added;
+
+    ExchangeRingBuffer(int capacity) {
+        exchanges = new CapturedExchange[capacity];
+    }
+
+    // a test may hand requests to other threads, so access is synchronized; it is uncontended in the common case
+    synchronized void add(CapturedExchange exchange) {
+        exchanges[(int) (added++ % exchanges.length)] = exchange;
+    }
+
+    synchronized long overwritten() {
+        return Math.max(0, added - exchanges.length);
+    }
+
+    /**
+     * Exchanges still held, oldest first.
+     */
+    synchronized List<CapturedExchange> exchanges() {
+        int held = (int) Math.min(added, exchanges.length);
+        List<CapturedExchange> oldestFirst = new ArrayList<>(held);
+        for (long i = added - held; i < added; i++) {
+            oldestFirst.add(exchanges[(int) (i % exchanges.length)]);
+        }
+        return oldestFirst;
+    }
+}
@@ -0,0 +1,43 @@
+package com.testinglaboratory.restassured.support.capture;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+
+/**
+ * Gives every test its own {@link ExchangeRingBuffer} (size -Dcapture.capacity, default 32)
+ * and logs the captured exchanges only if the test failed.
+ */
+@Slf4j
+public class FailureLogExtension implements BeforeEachCallback, AfterEachCallback {
+    public static final String CAPACITY_PROPERTY = "capture.capacity";
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailureLogExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ExchangeRingBuffer buffer = new ExchangeRingBuffer(Integer.getInteger(CAPACITY_PROPERTY, 32));
+        context.getStore(NAMESPACE).put(ExchangeRingBuffer.class, buffer);
+        ExchangeCaptureFilter.startCapturing(buffer);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ExchangeCaptureFilter.stopCapturing();
+        ExchangeRingBuffer buffer = context.getStore(NAMESPACE).remove(ExchangeRingBuffer.class, ExchangeRingBuffer.class);
+        if (buffer == null || context.getExecutionException().isEmpty()) {
+            return;
+        }
+        List<CapturedExchange> exchanges = buffer.exchanges();
+        StringBuilder report = new StringBuilder();
+        if (buffer.overwritten() > 0) {
+            report.append(buffer.overwritten()).append(" earlier exchanges were overwritten").append(System.lineSeparator());
+        }
+        exchanges.forEach(exchange -> report.append(System.lineSeparator()).append(exchange.format()));
+        log.info("{} failed after {} HTTP exchanges:{}{}", context.getDisplayName(), exchanges.size(),
+                System.lineSeparator(), report);
+    }
+}
@@ -0,0 +1,181 @@
+package com.testinglaboratory.restassured.support.cassette;
+
+import io.restassured.http.Header;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Cassette storage. Layout: magic, entry count, index of (key, request body, offset, length) and the packed responses.
+ * Replay maps the file read-only and decodes a response only when it is requested.
+ * <p>
+ * A key recorded several times (e.g. GET of a resource before and after an update) is replayed
+ * in recording order among the entries whose request body matches; once those run out the last one is repeated.
+ */
+class CassetteFile {
+    private static final int MAGIC = 0x52414332; // "RAC2"
+
+    private final ByteBuffer data;
+    private final Map<String, List<Entry>> index;
+
+    private CassetteFile(ByteBuffer data, Map<String, List<Entry>> index) {
+        this.data = data;
+        this.index = index;
+    }
+
+    static CassetteFile open(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.getInt() != MAGIC) {
+            throw new IOException(file + " is not a cassette");
+        }
+        int entries = mapped.getInt();
+        Map<String, List<Entry>> index = new HashMap<>(entries * 2);
+        for (int i = 0; i < entries; i++) {
+            String key = readString(mapped);
+            String requestBody = readString(mapped);
+            long offset = mapped.getLong();
+            int length = mapped.getInt();
+            index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(new Entry(requestBody, offset, length));
+        }
+        return new CassetteFile(mapped.slice(), index);
+    }
+
+    Optional<RecordedExchange> next(String key, Predicate<String> requestBody) {
+        List<Entry> recorded = index.get(key);
+        if (recorded == null) {
+            return Optional.empty();
+        }
+        Entry match = null;
+        synchronized (recorded) {
+            for (Entry entry : recorded) {
+                if (requestBody.test(entry.requestBody)) {
+                    match = entry;
+                    if (!entry.replayed) {
+                        break;
+                    }
+                }
+            }
+            if (match == null) {
+                return Optional.empty();
+            }
+            match.replayed = true;
+        }
+        ByteBuffer entry = data.duplicate();
+        entry.position((int) match.offset);
+        entry.limit((int) (match.offset + match.length));
+        return Optional.of(decode(key, match.requestBody, entry));
+    }
+
+    int size() {
+        return index.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Writes the exchanges to a temporary file next to the target and moves it into place.
+     */
+    static void write(Path file, List<RecordedExchange> exchanges) throws IOException {
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        DataOutputStream responses = new DataOutputStream(packed);
+        Map<RecordedExchange, long[]> locations = new LinkedHashMap<>();
+        for (RecordedExchange exchange : exchanges) {
+            long offset = responses.size();
+            encode(responses, exchange);
+            locations.put(exchange, new long[]{offset, responses.size() - offset});
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path partial = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(exchanges.size());
+            for (Map.Entry<RecordedExchange, long[]> location : locations.entrySet()) {
+                writeString(out, location.getKey().key);
+                writeString(out, location.getKey().requestBody);
+                out.writeLong(location.getValue()[0]);
+                out.writeInt((int) location.getValue()[1]);
+            }
+            packed.writeTo(out);
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void encode(DataOutputStream out, RecordedExchange exchange) throws IOException {
+        out.writeInt(exchange.statusCode);
+        writeString(out, exchange.statusLine);
+        out.writeInt(exchange.headers.size());
+        for (Header header : exchange.headers) {
+            writeString(out, header.getName());
+            writeString(out, header.getValue());
+        }
+        out.writeInt(exchange.cookies.size());
+        for (Map.Entry<String, String> cookie : exchange.cookies.entrySet()) {
+            writeString(out, cookie.getKey());
+            writeString(out, cookie.getValue());
+        }
+        out.writeInt(exchange.body.length);
+        out.write(exchange.body);
+    }
+
+    private static RecordedExchange decode(String key, String requestBody, ByteBuffer in) {
+        int statusCode = in.getInt();
+        String statusLine = readString(in);
+        int headerCount = in.getInt();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(readString(in), readString(in)));
+        }
+        int cookieCount = in.getInt();
+        Map<String, String> cookies = new LinkedHashMap<>(cookieCount * 2);
+        for (int i = 0; i < cookieCount; i++) {
+            cookies.put(readString(in), readString(in));
+        }
+        byte[] body = new byte[in.getInt()];
+        in.get(body);
+        return new RecordedExchange(key, requestBody, statusCode, statusLine, headers, cookies, body);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Entry {
+        final String requestBody;
+        final long offset;
+        final int length;
+        boolean replayed;
+
+        Entry(String requestBody, long offset, int length) {
+            this.requestBody = requestBody;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.testinglaboratory.restassured.support.cassette;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records exchanges of one target into a cassette file, or answers requests from it without opening a socket.
+ * Enabled with -Dcassette.mode=record or -Dcassette.mode=replay; cassettes are kept in -Dcassette.dir
+ * (default src/test/resources/cassettes) as {@code <target>.cassette}.
+ * <p>
+ * Requests are matched on method and path with query string, so the recording does not depend on the host or port
+ * it was made against. Among the exchanges recorded for a method and path, the {@link RequestMatcher} registered for
+ * it with {@link #match} picks the first not yet replayed one whose body fits ({@link RequestMatcher#sameBody()} unless
+ * registered otherwise). Bodies are kept as serialized, with JSON members sorted, so the iteration order of a
+ * {@code Map.of} body does not change them from one JVM to the next. Registration, login and check-in ignore their
+ * generated usernames, passwords and names; a test that asserts on such a value echoed in the response still needs
+ * the recorded one, -Didentity.pool.run pins the identity pool's run token.
+ */
+@Slf4j
+public class CassetteFilter implements Filter {
+    public static final String MODE_PROPERTY = "cassette.mode";
+    public static final String DIRECTORY_PROPERTY = "cassette.dir";
+
+    private static final Map<String, Optional<CassetteFilter>> filters = new ConcurrentHashMap<>();
+    private static final Map<String, RequestMatcher> matchers = new ConcurrentHashMap<>(Map.of(
+            "POST /register", RequestMatcher.ignoringFields("username", "password"),
+            "POST /login", RequestMatcher.ignoringFields("username", "password"),
+            "POST /desk", RequestMatcher.ignoringFields("name")));
+    private static final Gson gson = new Gson();
+
+    private final Path file;
+    private final CassetteFile replay;
+    private final List<RecordedExchange> recorded;
+
+    private CassetteFilter(Path file, CassetteFile replay, List<RecordedExchange> recorded) {
+        this.file = file;
+        this.replay = replay;
+        this.recorded = recorded;
+    }
+
+    /**
+     * The filter of the named target, shared by all its specifications, or empty when cassettes are off (the default).
+     */
+    public static Optional<CassetteFilter> forTarget(String target) {
+        return filters.computeIfAbsent(target, CassetteFilter::create);
+    }
+
+    /**
+     * Replays the cassette file, e.g. one kept next to the test that uses it.
+     */
+    @SneakyThrows(IOException.class)
+    public static CassetteFilter replaying(Path file) {
+        return new CassetteFilter(file, CassetteFile.open(file), null);
+    }
+
+    /**
+     * Records into the cassette file when {@link #save()} is called.
+     */
+    public static CassetteFilter recording(Path file) {
+        return new CassetteFilter(file, null, new ArrayList<>());
+    }
+
+    /**
+     * Decides which recorded body answers requests of the method to the path as written in the test
+     * (relative to the base path, path parameters as placeholders), e.g. {@code match("PUT", "/human/{id}", ...)}.
+     */
+    public static void match(String method, String path, RequestMatcher matcher) {
+        matchers.put(method + " " + path, matcher);
+    }
+
+    private static Optional<CassetteFilter> create(String target) {
+        String mode = System.getProperty(MODE_PROPERTY, "off").toLowerCase(Locale.ROOT);
+        Path file = Paths.get(System.getProperty(DIRECTORY_PROPERTY, "src/test/resources/cassettes"),
+                target.toLowerCase(Locale.ROOT) + ".cassette");
+        switch (mode) {
+            case "off":
+                return Optional.empty();
+            case "replay":
+                if (!Files.isRegularFile(file)) {
+                    throw new IllegalStateException("No cassette at " + file + ", record one with -D" + MODE_PROPERTY + "=record");
+                }
+                CassetteFilter player = replaying(file);
+                log.info("Replaying {} exchanges from {}", player.replay.size(), file);
+                return Optional.of(player);
+            case "record":
+                CassetteFilter recorder = recording(file);
+                Runtime.getRuntime().addShutdownHook(new Thread(recorder::save, "cassette-" + target));
+                return Optional.of(recorder);
+            default:
+                throw new IllegalArgumentException("Unknown " + MODE_PROPERTY + " '" + mode + "', use off, record or replay");
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String key = key(requestSpec);
+        String body = canonicalBody(requestSpec.getBody());
+        if (replay != null) {
+            RequestMatcher matcher = matchers.getOrDefault(
+                    requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath(), RequestMatcher.sameBody());
+            return replay.next(key, recorded -> matcher.matches(recorded, body))
+                    .map(RecordedExchange::toResponse)
+                    .orElseThrow(() -> new IllegalStateException("No recorded exchange for " + key + " " + body
+                            + " in " + file));
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        RecordedExchange exchange = RecordedExchange.of(key, body, response);
+        synchronized (recorded) {
+            recorded.add(exchange);
+        }
+        return response;
+    }
+
+    public void save() {
+        synchronized (recorded) {
+            try {
+                CassetteFile.write(file, recorded);
+                log.info("Recorded {} exchanges to {}", recorded.size(), file);
+            } catch (IOException e) {
+                log.error("Could not write cassette {}", file, e);
+            }
+        }
+    }
+
+    private static String key(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        return requestSpec.getMethod() + " " + uri.getRawPath()
+                + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+    }
+
+    /**
+     * The body as sent, RestAssured has already serialized objects by the time filters run;
+     * JSON is rewritten with sorted members.
+     */
+    private static String canonicalBody(Object body) {
+        if (body == null) {
+            return "";
+        }
+        String text = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : String.valueOf(body);
+        try {
+            JsonElement json = JsonParser.parseString(text);
+            return json.isJsonObject() || json.isJsonArray() ? gson.toJson(sorted(json)) : text;
+        } catch (JsonParseException e) {
+            return text;
+        }
+    }
+
+    private static JsonElement sorted(JsonElement json) {
+        if (json.isJsonObject()) {
+            Map<String, JsonElement> members = new TreeMap<>();
+            json.getAsJsonObject().entrySet().forEach(member -> members.put(member.getKey(), member.getValue()));
+            JsonObject sorted = new JsonObject();
+            members.forEach((name, value) -> sorted.add(name, sorted(value)));
+            return sorted;
+        }
+        if (json.isJsonArray()) {
+            JsonArray sorted = new JsonArray();
+            json.getAsJsonArray().forEach(element -> sorted.add(sorted(element)));
+            return sorted;
+        }
+        return json;
+    }
+}
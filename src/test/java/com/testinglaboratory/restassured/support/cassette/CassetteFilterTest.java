@@ -0,0 +1,108 @@
+package com.testinglaboratory.restassured.support.cassette;
+
+import com.testinglaboratory.restassured.primer.stub.PrimerStubServer;
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.apache.http.HttpStatus.SC_ACCEPTED;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_METHOD_NOT_ALLOWED;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Replays cassettes with nothing listening on the base URI. primer-journey.cassette was recorded from {@link #journey}
+ * against the {@link PrimerStubServer}; every replay sends other generated users than the recording did.
+ */
+class CassetteFilterTest {
+    private static final Path JOURNEY = Path.of("src/test/resources/cassettes/primer-journey.cassette");
+    private static final String NO_SERVER = "http://localhost:9";
+
+    @Test
+    void replaysTheCommittedCassetteWithoutAServer() {
+        journey(primer(NO_SERVER).filter(CassetteFilter.replaying(JOURNEY)), IdentityPool.next());
+    }
+
+    @Test
+    void replaysWhatWasJustRecorded(@TempDir Path directory) {
+        Path cassette = directory.resolve("primer.cassette");
+        CassetteFilter recorder = CassetteFilter.recording(cassette);
+        journey(primer(PrimerStubServer.instance().baseUri()).filter(recorder), IdentityPool.next());
+        recorder.save();
+
+        journey(primer(NO_SERVER).filter(CassetteFilter.replaying(cassette)), IdentityPool.next());
+    }
+
+    @Test
+    void bodiesMatchRegardlessOfMemberOrder(@TempDir Path directory) {
+        Path cassette = directory.resolve("primer.cassette");
+        CassetteFilter recorder = CassetteFilter.recording(cassette);
+        given(primer(PrimerStubServer.instance().baseUri()).filter(recorder))
+                .body(orderedMap("reactor", "stable", "core", "humming"))
+                .post("/tryout")
+                .then()
+                .statusCode(SC_METHOD_NOT_ALLOWED);
+        recorder.save();
+
+        RequestSpecification replay = primer(NO_SERVER).filter(CassetteFilter.replaying(cassette));
+        given(replay)
+                .body(orderedMap("core", "humming", "reactor", "stable"))
+                .post("/tryout")
+                .then()
+                .statusCode(SC_METHOD_NOT_ALLOWED);
+        assertThatIllegalStateException().isThrownBy(() -> given(replay)
+                .body(orderedMap("core", "melting", "reactor", "stable"))
+                .post("/tryout"));
+    }
+
+    /**
+     * Registers the user twice, logs in and reads a flag; both registrations share method, path and (ignored) body,
+     * so they are told apart by recording order.
+     */
+    private static void journey(RequestSpecification primer, Identity user) {
+        Map<String, String> credentials = Map.of("username", user.getUsername(), "password", user.getPassword());
+        given(primer).body(credentials).post("/register")
+                .then()
+                .statusCode(SC_CREATED)
+                .body("key", notNullValue());
+        given(primer).body(credentials).post("/register")
+                .then()
+                .statusCode(SC_BAD_REQUEST)
+                .body("flag", equalTo("${flag_im_still_here_captain}"));
+        given(primer).body(credentials).post("/login")
+                .then()
+                .statusCode(SC_ACCEPTED);
+        given(primer).get("/flag/{id}", 1)
+                .then()
+                .statusCode(SC_OK)
+                .body("flag", equalTo("${flag_hello_there}"));
+    }
+
+    private static RequestSpecification primer(String baseUri) {
+        return given()
+                .config(RestAssuredConfigFactory.pooled())
+                .baseUri(baseUri)
+                .basePath(PrimerStubServer.BASE_PATH)
+                .contentType(ContentType.JSON);
+    }
+
+    private static Map<String, String> orderedMap(String firstKey, String firstValue, String secondKey, String secondValue) {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put(firstKey, firstValue);
+        map.put(secondKey, secondValue);
+        return map;
+    }
+}
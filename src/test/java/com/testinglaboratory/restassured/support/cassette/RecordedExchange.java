@@ -0,0 +1,62 @@
+package com.testinglaboratory.restassured.support.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.internal.log.LogRepository;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recorded response, the request key it answers and the canonical body of that request.
+ */
+class RecordedExchange {
+    final String key;
+    final String requestBody;
+    final int statusCode;
+    final String statusLine;
+    final List<Header> headers;
+    final Map<String, String> cookies;
+    final byte[] body;
+
+    RecordedExchange(String key, String requestBody, int statusCode, String statusLine, List<Header> headers,
+                     Map<String, String> cookies, byte[] body) {
+        this.key = key;
+        this.requestBody = requestBody;
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.cookies = cookies;
+        this.body = body;
+    }
+
+    static RecordedExchange of(String key, String requestBody, Response response) {
+        return new RecordedExchange(key, requestBody, response.statusCode(), response.statusLine(),
+                response.headers().asList(), response.cookies(), response.asByteArray());
+    }
+
+    Response toResponse() {
+        List<Cookie> replayedCookies = new ArrayList<>(cookies.size());
+        cookies.forEach((name, value) -> replayedCookies.add(new Cookie.Builder(name, value).build()));
+        ResponseBuilder response = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(new Headers(headers))
+                .setCookies(new Cookies(replayedCookies))
+                .setBody(body);
+        Headers replayedHeaders = new Headers(headers);
+        if (replayedHeaders.hasHeaderWithName("Content-Type")) {
+            response.setContentType(replayedHeaders.getValue("Content-Type"));
+        }
+        Response replayed = response.build();
+        // ResponseBuilder leaves out the log repository that then().log() writes to
+        ((RestAssuredResponseImpl) replayed).setLogRepository(new LogRepository());
+        return replayed;
+    }
+}
@@ -0,0 +1,48 @@
+package com.testinglaboratory.restassured.support.cassette;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.util.List;
+
+/**
+ * Decides whether a recorded request body answers the body being sent, for one method and path.
+ * Bodies are compared in the canonical form {@link CassetteFilter} stores them in (JSON with sorted members),
+ * so the member order of e.g. a {@code Map.of} body never matters.
+ */
+@FunctionalInterface
+public interface RequestMatcher {
+
+    boolean matches(String recordedBody, String sentBody);
+
+    /**
+     * The default: the canonical bodies are equal.
+     */
+    static RequestMatcher sameBody() {
+        return String::equals;
+    }
+
+    /**
+     * Bodies are equal apart from the given top-level JSON members, for values that change on every run
+     * such as generated usernames and passwords.
+     */
+    static RequestMatcher ignoringFields(String... fields) {
+        List<String> ignored = List.of(fields);
+        return (recordedBody, sentBody) -> withoutFields(recordedBody, ignored).equals(withoutFields(sentBody, ignored));
+    }
+
+    private static Object withoutFields(String body, List<String> fields) {
+        try {
+            JsonElement json = JsonParser.parseString(body);
+            if (json.isJsonObject()) {
+                JsonObject remaining = json.getAsJsonObject();
+                fields.forEach(remaining::remove);
+            }
+            return json;
+        } catch (JsonParseException e) {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.testinglaboratory.restassured.support.consistency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link RegisterHistoryChecker#check(OperationHistory)}.
+ */
+@Getter
+@AllArgsConstructor
+public class ConsistencyReport {
+    private final long reads;
+    private final long writes;
+    private final long failed;
+    private final List<String> staleReads;
+    private final List<String> lostUpdates;
+    private final List<String> unexplainedReads;
+    /**
+     * Successful writes per second over the whole run.
+     */
+    private final double writeThroughput;
+    /**
+     * Successful writes in the slowest whole second of the run; the rate the service sustained throughout.
+     */
+    private final long sustainedWritesPerSecond;
+
+    public boolean isConsistent() {
+        return staleReads.isEmpty() && lostUpdates.isEmpty() && unexplainedReads.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format(
+                "%d reads, %d writes, %d failed; %.1f writes/s, at least %d writes in every second%n"
+                        + "%d stale reads, %d lost updates, %d reads of values never written",
+                reads, writes, failed, writeThroughput, sustainedWritesPerSecond,
+                staleReads.size(), lostUpdates.size(), unexplainedReads.size()));
+        append(text, "Lost update", lostUpdates);
+        append(text, "Stale read", staleReads);
+        append(text, "Unexplained read", unexplainedReads);
+        return text.toString();
+    }
+
+    private static void append(StringBuilder text, String kind, List<String> anomalies) {
+        anomalies.stream().limit(10).forEach(anomaly ->
+                text.append(System.lineSeparator()).append(kind).append(": ").append(anomaly));
+    }
+}
@@ -0,0 +1,37 @@
+package com.testinglaboratory.restassured.support.consistency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * One completed call against a resource, as seen by the client that made it.
+ * Writes carry the field values they sent, reads the field values they got back.
+ * Values written during a run must be unique per field, so every read can be traced to the write that produced it.
+ */
+@Getter
+@AllArgsConstructor
+public class Operation {
+    private final int client;
+    private final String name;
+    private final String resource;
+    private final Map<String, String> written;
+    private final Map<String, String> read;
+    private final long invokedNanos;
+    private final long completedNanos;
+    /**
+     * False when the call failed or its outcome is unknown; such a write may or may not have been applied.
+     */
+    private final boolean ok;
+
+    public boolean isWrite() {
+        return !written.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("client %d %s %s %s [%d..%d]%s", client, name, resource,
+                isWrite() ? written : read, invokedNanos, completedNanos, ok ? "" : " failed");
+    }
+}
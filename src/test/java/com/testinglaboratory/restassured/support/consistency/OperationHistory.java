@@ -0,0 +1,38 @@
+package com.testinglaboratory.restassured.support.consistency;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Timestamped log of operations made by concurrent clients, plus the state each resource had before the run.
+ * Appending is lock-free so recording does not serialize the clients.
+ */
+public class OperationHistory {
+    private final Map<String, Map<String, String>> initialStates = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Operation> operations = new ConcurrentLinkedQueue<>();
+
+    public void initialState(String resource, Map<String, String> fields) {
+        initialStates.put(resource, Map.copyOf(fields));
+    }
+
+    public void record(Operation operation) {
+        operations.add(operation);
+    }
+
+    Map<String, Map<String, String>> initialStates() {
+        return initialStates;
+    }
+
+    /**
+     * Operations ordered by the time they were invoked.
+     */
+    public List<Operation> operations() {
+        List<Operation> ordered = new ArrayList<>(operations);
+        ordered.sort(Comparator.comparingLong(Operation::getInvokedNanos));
+        return ordered;
+    }
+}
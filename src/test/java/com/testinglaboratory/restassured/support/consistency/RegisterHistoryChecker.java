@@ -0,0 +1,167 @@
+package com.testinglaboratory.restassured.support.consistency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks a history against read/write register semantics, field by field and resource by resource.
+ * <ul>
+ * <li>A read is <em>stale</em> if the value it returned had been overwritten by a write that completed
+ * before the read started.</li>
+ * <li>When that read started after every write had completed, the overwritten value means an update was
+ * <em>lost</em>.</li>
+ * <li>A read is <em>unexplained</em> if no write (and no initial state) produced its value, or if it returned
+ * a value whose write started only after the read had completed.</li>
+ * </ul>
+ * Failed writes may or may not have been applied: reading their value is allowed, but they never make
+ * another value stale.
+ */
+public class RegisterHistoryChecker {
+
+    public ConsistencyReport check(OperationHistory history) {
+        List<Operation> operations = history.operations();
+        Map<String, Map<String, Register>> registers = new HashMap<>();
+        long reads = 0;
+        long writes = 0;
+        long failed = 0;
+        for (Operation operation : operations) {
+            if (!operation.isOk()) {
+                failed++;
+            }
+            if (operation.isWrite()) {
+                writes++;
+                operation.getWritten().forEach((field, value) -> registers
+                        .computeIfAbsent(operation.getResource(), resource -> new HashMap<>())
+                        .computeIfAbsent(field, f -> new Register())
+                        .writes.add(operation));
+            } else if (operation.isOk()) {
+                reads++;
+            }
+        }
+        history.initialStates().forEach((resource, fields) -> fields.forEach((field, value) ->
+                registers.computeIfAbsent(resource, r -> new HashMap<>())
+                        .computeIfAbsent(field, f -> new Register())
+                        .initialValue = value));
+        registers.values().forEach(fields -> fields.forEach((field, register) -> register.index(field)));
+
+        long lastWriteCompleted = operations.stream().filter(Operation::isWrite)
+                .mapToLong(Operation::getCompletedNanos).max().orElse(Long.MIN_VALUE);
+        List<String> stale = new ArrayList<>();
+        List<String> lost = new ArrayList<>();
+        List<String> unexplained = new ArrayList<>();
+        for (Operation read : operations) {
+            if (read.isWrite() || !read.isOk() || read.getRead() == null) {
+                continue;
+            }
+            Map<String, Register> fields = registers.getOrDefault(read.getResource(), Map.of());
+            read.getRead().forEach((field, value) -> {
+                Register register = fields.get(field);
+                if (register == null) {
+                    return;
+                }
+                switch (register.verdict(value, read)) {
+                    case STALE:
+                        (read.getInvokedNanos() > lastWriteCompleted ? lost : stale)
+                                .add(field + "=" + value + " in " + read);
+                        break;
+                    case UNEXPLAINED:
+                        unexplained.add(field + "=" + value + " in " + read);
+                        break;
+                    default:
+                }
+            });
+        }
+        return new ConsistencyReport(reads, writes, failed, stale, lost, unexplained,
+                writeThroughput(operations), sustainedWritesPerSecond(operations));
+    }
+
+    private static double writeThroughput(List<Operation> operations) {
+        long[] completed = successfulWriteCompletions(operations);
+        if (completed.length < 2) {
+            return completed.length;
+        }
+        double seconds = (completed[completed.length - 1] - operations.get(0).getInvokedNanos()) / 1e9;
+        return seconds > 0 ? completed.length / seconds : completed.length;
+    }
+
+    // whole seconds only: the first and the last, partial, second would understate the rate
+    private static long sustainedWritesPerSecond(List<Operation> operations) {
+        long[] completed = successfulWriteCompletions(operations);
+        if (completed.length == 0) {
+            return 0;
+        }
+        long start = operations.get(0).getInvokedNanos();
+        long wholeSeconds = TimeUnit.NANOSECONDS.toSeconds(completed[completed.length - 1] - start);
+        if (wholeSeconds < 1) {
+            return completed.length;
+        }
+        long[] perSecond = new long[(int) wholeSeconds];
+        for (long completion : completed) {
+            long second = TimeUnit.NANOSECONDS.toSeconds(completion - start);
+            if (second < wholeSeconds) {
+                perSecond[(int) second]++;
+            }
+        }
+        return Arrays.stream(perSecond).min().orElse(0);
+    }
+
+    private static long[] successfulWriteCompletions(List<Operation> operations) {
+        return operations.stream()
+                .filter(operation -> operation.isWrite() && operation.isOk())
+                .mapToLong(Operation::getCompletedNanos)
+                .sorted()
+                .toArray();
+    }
+
+    private enum Verdict {VALID, STALE, UNEXPLAINED}
+
+    private static final class Register {
+        private final List<Operation> writes = new ArrayList<>();
+        private String initialValue;
+        private final Map<String, Operation> writesByValue = new HashMap<>();
+        // successful writes by completion time -> latest invocation among writes completed by then
+        private final TreeMap<Long, Long> latestInvocationCompletedBy = new TreeMap<>();
+
+        void index(String field) {
+            List<Operation> successful = new ArrayList<>();
+            for (Operation write : writes) {
+                writesByValue.put(write.getWritten().get(field), write);
+                if (write.isOk()) {
+                    successful.add(write);
+                }
+            }
+            successful.sort(Comparator.comparingLong(Operation::getCompletedNanos));
+            long latestInvocation = Long.MIN_VALUE;
+            for (Operation write : successful) {
+                latestInvocation = Math.max(latestInvocation, write.getInvokedNanos());
+                latestInvocationCompletedBy.put(write.getCompletedNanos(), latestInvocation);
+            }
+        }
+
+        Verdict verdict(String value, Operation read) {
+            // a successful write that completed before the read started and started after `notBefore` supersedes the value
+            long notBefore;
+            Operation source = writesByValue.get(value);
+            if (source != null) {
+                if (source.getInvokedNanos() > read.getCompletedNanos()) {
+                    return Verdict.UNEXPLAINED;
+                }
+                notBefore = source.isOk() ? source.getCompletedNanos() : Long.MAX_VALUE;
+            } else if (value != null && value.equals(initialValue)) {
+                notBefore = Long.MIN_VALUE;
+            } else {
+                return Verdict.UNEXPLAINED;
+            }
+            Map.Entry<Long, Long> completedBeforeRead = latestInvocationCompletedBy.lowerEntry(read.getInvokedNanos());
+            return completedBeforeRead != null && completedBeforeRead.getValue() > notBefore
+                    ? Verdict.STALE
+                    : Verdict.VALID;
+        }
+    }
+}
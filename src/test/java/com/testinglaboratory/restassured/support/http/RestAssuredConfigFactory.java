@@ -0,0 +1,209 @@
+package com.testinglaboratory.restassured.support.http;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Suite-wide {@link RestAssuredConfig} backed by a single keep-alive connection pool,
+ * so consecutive requests to the same host reuse TCP connections instead of opening new ones.
+ * <p>
+ * Pool size is configurable with -Drestassured.pool.maxPerRoute (default 20)
+ * and -Drestassured.pool.maxTotal (default 200). Statistics are logged when the JVM exits.
+ * <p>
+ * Response bodies of up to 1 MiB are read into memory when they arrive, whether their length is declared or they are
+ * chunked, so the connection goes back to the pool immediately. Of a longer body only the first 1 MiB is read
+ * ahead; the rest stays on the connection until the body is read or closed.
+ * See {@link #unbuffered(Supplier)} for responses that are meant to be streamed.
+ * A request waits at most -Drestassured.pool.leaseTimeout milliseconds (default 30000) for a free connection
+ * and then fails, instead of blocking forever on a pool drained by bodies nobody closed.
+ */
+@Slf4j
+@SuppressWarnings("deprecation") // RestAssured 4 drives the AbstractHttpClient API
+public final class RestAssuredConfigFactory {
+    public static final String MAX_PER_ROUTE_PROPERTY = "restassured.pool.maxPerRoute";
+    public static final String MAX_TOTAL_PROPERTY = "restassured.pool.maxTotal";
+    public static final String LEASE_TIMEOUT_PROPERTY = "restassured.pool.leaseTimeout";
+
+    private static final long MAX_KEEP_ALIVE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final int MAX_BUFFERED_BODY_BYTES = 1024 * 1024;
+
+    private static final ThreadLocal<Boolean> streaming = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private static final ThreadLocal<long[]> sentRequests = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<long[]> receivedBytes = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static PoolingClientConnectionManager connectionManager;
+    private static RestAssuredConfig pooledConfig;
+
+    private RestAssuredConfigFactory() {
+    }
+
+    /**
+     * Returns the shared config; the pool is created on first use.
+     */
+    public static synchronized RestAssuredConfig pooled() {
+        if (pooledConfig == null) {
+            connectionManager = new PoolingClientConnectionManager();
+            connectionManager.setDefaultMaxPerRoute(Integer.getInteger(MAX_PER_ROUTE_PROPERTY, 20));
+            connectionManager.setMaxTotal(Integer.getInteger(MAX_TOTAL_PROPERTY, 200));
+            pooledConfig = RestAssuredConfig.config().httpClient(
+                    HttpClientConfig.httpClientConfig()
+                            .reuseHttpClientInstance()
+                            .httpClientFactory(RestAssuredConfigFactory::pooledHttpClient));
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(() -> log.info("Connection pool at exit: {}", poolStatistics()), "pool-statistics"));
+        }
+        return pooledConfig;
+    }
+
+    /**
+     * Snapshot of the pool: leased, available and pending connections plus the configured maximum.
+     */
+    public static synchronized PoolStats poolStatistics() {
+        if (connectionManager == null) {
+            return new PoolStats(0, 0, 0, 0);
+        }
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Sends the request(s) made by the action on this thread without buffering their response bodies.
+     * The caller must read or close the body, otherwise the connection stays leased.
+     */
+    public static <T> T unbuffered(Supplier<T> action) {
+        boolean outer = streaming.get();
+        streaming.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            streaming.set(outer);
+        }
+    }
+
+    /**
+     * Requests the pooled client has put on the wire from this thread so far, including the retries
+     * HttpClient makes on its own (e.g. answering an authentication challenge) that filters never see.
+     */
+    public static long requestsSentByCurrentThread() {
+        return sentRequests.get()[0];
+    }
+
+    /**
+     * Response body bytes read from connections of the pooled client for requests sent from this thread so far.
+     * Bodies that are read ahead count when they arrive, the rest of a longer or unbuffered body as it is read.
+     */
+    public static long bytesReceivedByCurrentThread() {
+        return receivedBytes.get()[0];
+    }
+
+    private static DefaultHttpClient pooledHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        client.setKeepAliveStrategy((response, context) -> {
+            long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return advertised > 0 ? Math.min(advertised, MAX_KEEP_ALIVE_MILLIS) : MAX_KEEP_ALIVE_MILLIS;
+        });
+        client.getParams().setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT,
+                Long.getLong(LEASE_TIMEOUT_PROPERTY, TimeUnit.SECONDS.toMillis(30)));
+        client.addRequestInterceptor((request, context) -> sentRequests.get()[0]++);
+        // RestAssured leaves the body stream open when only status or headers are validated, which keeps the
+        // connection leased. Reading up to 1 MiB ahead releases it right away for every body that fits.
+        client.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null) {
+                HttpEntity counted = new CountingEntity(entity, receivedBytes.get());
+                response.setEntity(streaming.get() ? counted : readAhead(counted));
+            }
+        });
+        return client;
+    }
+
+    private static HttpEntity readAhead(HttpEntity entity) throws IOException {
+        long length = entity.getContentLength();
+        if (length > MAX_BUFFERED_BODY_BYTES) {
+            return entity;
+        }
+        if (length >= 0) {
+            return new BufferedHttpEntity(entity);
+        }
+        // chunked or unknown length: read through a bounded window, reaching the end releases the connection
+        InputStream content = entity.getContent();
+        if (content == null) {
+            return entity;
+        }
+        byte[] head = content.readNBytes(MAX_BUFFERED_BODY_BYTES + 1);
+        if (head.length <= MAX_BUFFERED_BODY_BYTES) {
+            content.close();
+            return copyHeaders(entity, new ByteArrayEntity(head));
+        }
+        InputStreamEntity rest = new InputStreamEntity(new SequenceInputStream(new ByteArrayInputStream(head), content), -1);
+        rest.setChunked(entity.isChunked());
+        return copyHeaders(entity, rest);
+    }
+
+    private static HttpEntity copyHeaders(HttpEntity from, AbstractHttpEntity to) {
+        to.setContentType(from.getContentType());
+        to.setContentEncoding(from.getContentEncoding());
+        return to;
+    }
+
+    // counts into the counter of the thread that received the response, even if another thread reads the body
+    private static final class CountingEntity extends HttpEntityWrapper {
+        private final long[] counter;
+
+        CountingEntity(HttpEntity entity, long[] counter) {
+            super(entity);
+            this.counter = counter;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            InputStream content = super.getContent();
+            return content == null ? null : new FilterInputStream(content) {
+                @Override
+                public int read() throws IOException {
+                    int read = super.read();
+                    if (read >= 0) {
+                        counter[0]++;
+                    }
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = super.read(buffer, offset, length);
+                    if (read > 0) {
+                        counter[0] += read;
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream content = getContent()) {
+                content.transferTo(out);
+            }
+        }
+    }
+}
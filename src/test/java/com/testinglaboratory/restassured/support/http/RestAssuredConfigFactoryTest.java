@@ -0,0 +1,95 @@
+package com.testinglaboratory.restassured.support.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Chunked responses of a local server through the pooled client, checking only the status as most tests do.
+ */
+public class RestAssuredConfigFactoryTest {
+    private static final int SMALL_BODY_BYTES = 4 * 1024;
+    private static final int LARGE_BODY_BYTES = 3 * 1024 * 1024;
+
+    private static HttpServer server;
+    private static RequestSpecification chunked;
+
+    @BeforeAll
+    public static void startChunkedServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/small", exchange -> sendChunked(exchange, SMALL_BODY_BYTES));
+        server.createContext("/large", exchange -> sendChunked(exchange, LARGE_BODY_BYTES));
+        server.start();
+        chunked = given()
+                .config(RestAssuredConfigFactory.pooled())
+                .baseUri("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    public static void stopChunkedServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @Timeout(20)
+    public void chunkedBodiesLeftUnreadDoNotDrainThePool() {
+        int requests = 3 * Integer.getInteger(RestAssuredConfigFactory.MAX_PER_ROUTE_PROPERTY, 20);
+        for (int i = 0; i < requests; i++) {
+            given(chunked).get("/small").then().statusCode(200);
+        }
+    }
+
+    @Test
+    public void chunkedBodiesArriveComplete() {
+        Response small = given(chunked).get("/small");
+        assertThat(small.contentType()).isEqualTo("application/octet-stream");
+        assertThat(small.asByteArray()).isEqualTo(body(SMALL_BODY_BYTES));
+
+        // longer than the read-ahead window, the rest is read from the connection
+        assertThat(given(chunked).get("/large").asByteArray()).isEqualTo(body(LARGE_BODY_BYTES));
+    }
+
+    @Test
+    public void chunkedBodiesAreCountedAsTheyAreRead() {
+        long before = RestAssuredConfigFactory.bytesReceivedByCurrentThread();
+        given(chunked).get("/small").then().statusCode(200);
+        assertThat(RestAssuredConfigFactory.bytesReceivedByCurrentThread() - before).isEqualTo(SMALL_BODY_BYTES);
+
+        before = RestAssuredConfigFactory.bytesReceivedByCurrentThread();
+        given(chunked).get("/large").asByteArray();
+        assertThat(RestAssuredConfigFactory.bytesReceivedByCurrentThread() - before).isEqualTo(LARGE_BODY_BYTES);
+    }
+
+    private static void sendChunked(HttpExchange exchange, int bytes) throws IOException {
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body(bytes));
+            }
+        }
+    }
+
+    private static byte[] body(int bytes) {
+        byte[] body = new byte[bytes];
+        Arrays.fill(body, (byte) 'x');
+        for (int i = 0; i < bytes; i += 1024) {
+            body[i] = (byte) ('a' + i / 1024 % 26);
+        }
+        return body;
+    }
+}
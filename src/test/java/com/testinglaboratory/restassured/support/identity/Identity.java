@@ -0,0 +1,27 @@
+package com.testinglaboratory.restassured.support.identity;
+
+import com.google.gson.JsonObject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Test person handed out by {@link IdentityPool}. The username is unique within the test run.
+ */
+@Getter
+@AllArgsConstructor
+public class Identity {
+    private final String firstName;
+    private final String lastName;
+    private final String username;
+    private final String password;
+
+    /**
+     * Credentials as sent to /register and /login.
+     */
+    public JsonObject credentials() {
+        JsonObject credentials = new JsonObject();
+        credentials.addProperty("username", username);
+        credentials.addProperty("password", password);
+        return credentials;
+    }
+}
@@ -0,0 +1,143 @@
+package com.testinglaboratory.restassured.support.identity;
+
+import com.github.javafaker.Faker;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JVM-wide supply of Polish test identities, so tests do not build a {@link Faker} (and parse its locale files)
+ * every time they need a name.
+ * <p>
+ * Names and passwords are generated in bulk on first use, or read from a binary cache file written by an earlier run
+ * (target/identity-pool.bin by default). Hand-out is a single atomic increment. Every username gets a suffix made of
+ * a per-run token and the hand-out index, which keeps usernames unique within the run even after the pool wraps around,
+ * and keeps reruns against a long-lived server from colliding with users it already knows.
+ * <p>
+ * Configurable with -Didentity.pool.size (default 2000), -Didentity.pool.cache (path of the cache file;
+ * an empty value disables caching) and -Didentity.pool.run (fixed run token, e.g. to replay recorded cassettes).
+ */
+@Slf4j
+public final class IdentityPool {
+    public static final String SIZE_PROPERTY = "identity.pool.size";
+    public static final String CACHE_PROPERTY = "identity.pool.cache";
+    public static final String RUN_PROPERTY = "identity.pool.run";
+
+    private static final int CACHE_FORMAT = 1;
+    private static final Locale LOCALE = new Locale("PL_pl");
+    private static final String RUN = System.getProperty(RUN_PROPERTY,
+            Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36, 36 * 36 * 36 * 36), 36));
+    private static final AtomicInteger handedOut = new AtomicInteger();
+
+    private IdentityPool() {
+    }
+
+    public static Identity next() {
+        int index = handedOut.getAndIncrement();
+        Seed[] seeds = Seeds.SEEDS;
+        Seed seed = seeds[Math.floorMod(index, seeds.length)];
+        String username = seed.username + "." + RUN + Integer.toString(index, 36);
+        return new Identity(seed.firstName, seed.lastName, username, seed.password);
+    }
+
+    public static int handedOut() {
+        return handedOut.get();
+    }
+
+    @AllArgsConstructor
+    private static final class Seed {
+        private final String firstName;
+        private final String lastName;
+        private final String username;
+        private final String password;
+    }
+
+    // initialized by the class loader on first access, which makes the pool safely published without locking
+    private static final class Seeds {
+        private static final Seed[] SEEDS = load(Integer.getInteger(SIZE_PROPERTY, 2000));
+
+        private static Seed[] load(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException(SIZE_PROPERTY + " must be positive but was " + size);
+            }
+            String cacheFile = System.getProperty(CACHE_PROPERTY, Paths.get("target", "identity-pool.bin").toString());
+            Path cache = cacheFile.isBlank() ? null : Paths.get(cacheFile);
+            if (cache != null && Files.isRegularFile(cache)) {
+                try {
+                    Seed[] seeds = read(cache, size);
+                    if (seeds != null) {
+                        log.debug("Read {} identities from {}", seeds.length, cache);
+                        return seeds;
+                    }
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable identity cache {}", cache, e);
+                }
+            }
+            long start = System.nanoTime();
+            Seed[] seeds = generate(size);
+            log.info("Generated {} identities in {} ms", size, (System.nanoTime() - start) / 1_000_000);
+            if (cache != null) {
+                try {
+                    write(cache, seeds);
+                } catch (IOException e) {
+                    log.warn("Could not write identity cache {}", cache, e);
+                }
+            }
+            return seeds;
+        }
+
+        private static Seed[] generate(int size) {
+            Faker faker = new Faker(LOCALE);
+            Seed[] seeds = new Seed[size];
+            for (int i = 0; i < size; i++) {
+                seeds[i] = new Seed(faker.name().firstName(), faker.name().lastName(),
+                        faker.name().username(), faker.internet().password());
+            }
+            return seeds;
+        }
+
+        private static Seed[] read(Path cache, int size) throws IOException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache)))) {
+                if (in.readInt() != CACHE_FORMAT || !LOCALE.toString().equals(in.readUTF()) || in.readInt() < size) {
+                    return null;
+                }
+                Seed[] seeds = new Seed[size];
+                for (int i = 0; i < size; i++) {
+                    seeds[i] = new Seed(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+                }
+                return seeds;
+            }
+        }
+
+        // written next to the target and moved into place, so concurrent forks never read a half-written file
+        private static void write(Path cache, Seed[] seeds) throws IOException {
+            Path parent = cache.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path partial = Files.createTempFile(parent, "identity-pool", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+                out.writeInt(CACHE_FORMAT);
+                out.writeUTF(LOCALE.toString());
+                out.writeInt(seeds.length);
+                for (Seed seed : seeds) {
+                    out.writeUTF(seed.firstName);
+                    out.writeUTF(seed.lastName);
+                    out.writeUTF(seed.username);
+                    out.writeUTF(seed.password);
+                }
+            }
+            Files.move(partial, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
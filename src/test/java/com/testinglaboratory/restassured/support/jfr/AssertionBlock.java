@@ -0,0 +1,46 @@
+package com.testinglaboratory.restassured.support.jfr;
+
+/**
+ * Runs a group of assertions and records it as an {@link AssertionEvent}, so a flight recording shows
+ * how long checking responses took next to the HTTP exchanges. Without a recording the event is
+ * never committed and the wrapper costs a couple of field writes.
+ * <pre>
+ * AssertionBlock.assertj("registration confirmation", () -&gt; assertThat(message).isEqualTo(expected));
+ * </pre>
+ */
+public final class AssertionBlock {
+    public static final String ASSERTJ = "AssertJ";
+    public static final String HAMCREST = "Hamcrest";
+
+    private AssertionBlock() {
+    }
+
+    public static void assertj(String description, Runnable assertions) {
+        run(ASSERTJ, description, assertions);
+    }
+
+    /**
+     * For RestAssured {@code then()} chains, whose matchers are Hamcrest's.
+     */
+    public static void hamcrest(String description, Runnable assertions) {
+        run(HAMCREST, description, assertions);
+    }
+
+    public static void run(String type, String description, Runnable assertions) {
+        AssertionEvent event = new AssertionEvent();
+        event.begin();
+        boolean passed = false;
+        try {
+            assertions.run();
+            passed = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.assertionType = type;
+                event.description = description;
+                event.passed = passed;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.testinglaboratory.restassured.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One block of assertions run through {@link AssertionBlock}.
+ */
+@Name("com.testinglaboratory.Assertion")
+@Label("Assertion Block")
+@Category({"RestAssured", "Assertions"})
+@Description("Evaluation of a group of AssertJ or Hamcrest assertions")
+public class AssertionEvent extends jdk.jfr.Event {
+    @Label("Type")
+    @Description("Assertion library, e.g. AssertJ or Hamcrest")
+    public String assertionType;
+
+    @Label("Description")
+    public String description;
+
+    @Label("Passed")
+    public boolean passed;
+}
@@ -0,0 +1,35 @@
+package com.testinglaboratory.restassured.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One request/response made through a target specification, emitted by
+ * {@link com.testinglaboratory.restassured.support.metrics.EndpointMetricsFilter}.
+ */
+@Name("com.testinglaboratory.HttpExchange")
+@Label("HTTP Exchange")
+@Category({"RestAssured", "HTTP"})
+@Description("Request sent through RestAssured and the response it got")
+public class HttpExchangeEvent extends jdk.jfr.Event {
+    @Label("Endpoint")
+    @Description("Method and path template, e.g. GET /human/{id}")
+    public String endpoint;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
@@ -0,0 +1,104 @@
+package com.testinglaboratory.restassured.support.json;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dotted path such as {@code "responseInformation.shortDescription"} or {@code "people[0].first_name"},
+ * split into member names and array indexes once and then evaluated against any number of Gson trees.
+ * Keep frequently used paths in constants; {@link #of(String)} also remembers every path it has compiled.
+ * <p>
+ * Only member access and non-negative indexes are supported, not the GPath filters of RestAssured's JsonPath.
+ */
+public final class CompiledPath {
+    private static final Map<String, CompiledPath> compiled = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final String[] members;
+    private final int[] indexes;
+
+    private CompiledPath(String expression, String[] members, int[] indexes) {
+        this.expression = expression;
+        this.members = members;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Compiles the path, or returns the instance compiled earlier for the same expression.
+     * An empty expression or {@code "."} denotes the root.
+     */
+    public static CompiledPath of(String expression) {
+        return compiled.computeIfAbsent(expression, CompiledPath::compile);
+    }
+
+    /**
+     * The element at this path, or {@code null} when any step is missing or of the wrong type.
+     */
+    public JsonElement evaluate(JsonElement root) {
+        JsonElement current = root;
+        for (int i = 0; i < members.length && current != null; i++) {
+            if (members[i] != null) {
+                current = current.isJsonObject() ? current.getAsJsonObject().get(members[i]) : null;
+            } else if (current.isJsonArray()) {
+                JsonArray array = current.getAsJsonArray();
+                current = indexes[i] < array.size() ? array.get(indexes[i]) : null;
+            } else {
+                current = null;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    // every step is either a member name (indexes[i] unused) or an array index (members[i] == null)
+    private static CompiledPath compile(String expression) {
+        List<String> members = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        if (!expression.isEmpty() && !expression.equals(".")) {
+            for (String segment : expression.split("\\.", -1)) {
+                int bracket = segment.indexOf('[');
+                String member = bracket < 0 ? segment : segment.substring(0, bracket);
+                if (!member.isEmpty()) {
+                    members.add(member);
+                    indexes.add(-1);
+                } else if (bracket != 0) {
+                    throw new IllegalArgumentException("Empty segment in path '" + expression + "'");
+                }
+                for (int at = bracket; at >= 0 && at < segment.length(); ) {
+                    int close = segment.indexOf(']', at);
+                    if (segment.charAt(at) != '[' || close < 0) {
+                        throw new IllegalArgumentException("Malformed index in path '" + expression + "'");
+                    }
+                    members.add(null);
+                    indexes.add(index(expression, segment.substring(at + 1, close)));
+                    at = close + 1;
+                }
+            }
+        }
+        return new CompiledPath(expression,
+                members.toArray(new String[0]),
+                indexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static int index(String expression, String index) {
+        try {
+            int value = Integer.parseInt(index);
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Array index '" + index + "' in path '" + expression
+                + "' is not a non-negative integer");
+    }
+}
@@ -0,0 +1,161 @@
+package com.testinglaboratory.restassured.support.json;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.restassured.response.Response;
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Checks a large JSON collection in a single pass over the response stream.
+ * The top-level value may be an object (every member is an entry) or an array (every element is an entry).
+ * Only one entry is held in memory at a time, so heap use does not grow with the size of the response.
+ * <pre>
+ * JsonStreamSummary people = JsonStreamInspector.entries()
+ *         .allMatch("is a person", JsonElement::isJsonObject)
+ *         .sample("first_name", 5)
+ *         .inspect(given(spec).filter(new StreamingBody()).get("/get_all_people"));
+ * </pre>
+ */
+public class JsonStreamInspector {
+    private static final int REPORTED_VIOLATIONS = 5;
+
+    private final Map<String, Predicate<JsonElement>> expectations = new LinkedHashMap<>();
+    private final Map<String, Integer> sampleSizes = new LinkedHashMap<>();
+    private long seed = 42;
+
+    private JsonStreamInspector() {
+    }
+
+    public static JsonStreamInspector entries() {
+        return new JsonStreamInspector();
+    }
+
+    /**
+     * Every entry is expected to match the predicate; failing entries are reported under the description.
+     */
+    public JsonStreamInspector allMatch(String description, Predicate<JsonElement> predicate) {
+        expectations.put(description, predicate);
+        return this;
+    }
+
+    /**
+     * Keeps a uniform sample of at most {@code size} values of the field, taken from entries that are objects.
+     */
+    public JsonStreamInspector sample(String field, int size) {
+        sampleSizes.put(field, size);
+        return this;
+    }
+
+    public JsonStreamInspector withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Inspects and closes the response body. Use together with {@link StreamingBody}
+     * so the body is not buffered before it gets here.
+     */
+    @SneakyThrows
+    public JsonStreamSummary inspect(Response response) {
+        try (InputStream body = response.asInputStream()) {
+            return inspect(body);
+        }
+    }
+
+    @SneakyThrows
+    public JsonStreamSummary inspect(InputStream body) {
+        Pass pass = new Pass();
+        JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        JsonToken top = reader.peek();
+        if (top == JsonToken.BEGIN_OBJECT) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                pass.entry(reader.nextName(), reader);
+            }
+            reader.endObject();
+        } else if (top == JsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                pass.entry(String.valueOf(pass.entries), reader);
+            }
+            reader.endArray();
+        } else {
+            throw new IllegalStateException("Expected a JSON object or array but found " + top);
+        }
+        return pass.summary();
+    }
+
+    private class Pass {
+        private final Random random = new Random(seed);
+        private final Map<String, List<String>> violations = new LinkedHashMap<>();
+        private final Map<String, Long> violationCounts = new LinkedHashMap<>();
+        private final Map<String, List<String>> samples = new LinkedHashMap<>();
+        private final Map<String, Long> seen = new LinkedHashMap<>();
+        private long entries;
+
+        Pass() {
+            sampleSizes.keySet().forEach(field -> samples.put(field, new ArrayList<>()));
+        }
+
+        void entry(String key, JsonReader reader) throws IOException {
+            entries++;
+            if (expectations.isEmpty() && sampleSizes.isEmpty()) {
+                reader.skipValue();
+                return;
+            }
+            JsonElement entry = JsonParser.parseReader(reader);
+            expectations.forEach((description, predicate) -> {
+                if (!predicate.test(entry)) {
+                    violationCounts.merge(description, 1L, Long::sum);
+                    List<String> keys = violations.computeIfAbsent(description, d -> new ArrayList<>());
+                    if (keys.size() < REPORTED_VIOLATIONS) {
+                        keys.add(key);
+                    }
+                }
+            });
+            if (entry.isJsonObject()) {
+                sampleSizes.forEach((field, size) -> sample(entry.getAsJsonObject(), field, size));
+            }
+        }
+
+        // reservoir sampling: the n-th value replaces a kept one with probability size / n
+        private void sample(JsonObject entry, String field, int size) {
+            JsonElement value = entry.get(field);
+            if (value == null) {
+                return;
+            }
+            long n = seen.merge(field, 1L, Long::sum);
+            List<String> kept = samples.get(field);
+            if (kept.size() < size) {
+                kept.add(text(value));
+            } else {
+                long slot = (long) (random.nextDouble() * n);
+                if (slot < size) {
+                    kept.set((int) slot, text(value));
+                }
+            }
+        }
+
+        JsonStreamSummary summary() {
+            return new JsonStreamSummary(entries, violations, violationCounts, samples);
+        }
+    }
+
+    private static String text(JsonElement value) {
+        return value.isJsonPrimitive() ? value.getAsString() : value.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.testinglaboratory.restassured.support.json;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of one {@link JsonStreamInspector} pass.
+ */
+@Getter
+@AllArgsConstructor
+public class JsonStreamSummary {
+    /**
+     * Number of members of the top-level object, or elements of the top-level array.
+     */
+    private final long entries;
+    /**
+     * Keys (or array indexes) of the first entries that failed each expectation, by expectation description.
+     * Expectations that every entry met are absent.
+     */
+    private final Map<String, List<String>> violations;
+    /**
+     * Number of entries that failed each expectation, by expectation description.
+     */
+    private final Map<String, Long> violationCounts;
+    /**
+     * Uniformly sampled values of each sampled field.
+     */
+    private final Map<String, List<String>> samples;
+
+    @Override
+    public String toString() {
+        return String.format("%d entries, violations %s, samples %s", entries, violationCounts, samples);
+    }
+}
@@ -0,0 +1,77 @@
+package com.testinglaboratory.restassured.support.json;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.restassured.response.ResponseBodyData;
+
+/**
+ * A response body parsed into a Gson tree once, for tests that read several values from the same body.
+ * Every {@code response.jsonPath()} call parses the body again; this parses it on first use and keeps the tree.
+ * <pre>
+ * private static final CompiledPath SHORT_DESCRIPTION = CompiledPath.of("responseInformation.shortDescription");
+ *
+ * ParsedDocument body = ParsedDocument.of(response);
+ * assertThat(body.getString(SHORT_DESCRIPTION)).isEqualTo("OK");
+ * </pre>
+ */
+public final class ParsedDocument {
+    private final ResponseBodyData body;
+    private JsonElement tree;
+
+    private ParsedDocument(ResponseBodyData body) {
+        this.body = body;
+    }
+
+    /**
+     * Wraps a {@code Response} or an extracted body; nothing is parsed until the first lookup.
+     */
+    public static ParsedDocument of(ResponseBodyData body) {
+        return new ParsedDocument(body);
+    }
+
+    public JsonElement tree() {
+        if (tree == null) {
+            tree = JsonParser.parseString(body.asString());
+        }
+        return tree;
+    }
+
+    /**
+     * The element at the path, or {@code null} when it is missing or JSON {@code null}.
+     */
+    public JsonElement get(CompiledPath path) {
+        JsonElement element = path.evaluate(tree());
+        return element == null || element instanceof JsonNull ? null : element;
+    }
+
+    public JsonElement get(String path) {
+        return get(CompiledPath.of(path));
+    }
+
+    /**
+     * Primitives as their text, objects and arrays as JSON, like {@code JsonPath.getString}.
+     */
+    public String getString(CompiledPath path) {
+        JsonElement element = get(path);
+        if (element == null) {
+            return null;
+        }
+        return element.isJsonPrimitive() ? element.getAsString() : element.toString();
+    }
+
+    public String getString(String path) {
+        return getString(CompiledPath.of(path));
+    }
+
+    public Integer getInt(CompiledPath path) {
+        JsonElement element = get(path);
+        return element == null ? null : element.getAsInt();
+    }
+
+    public JsonObject getObject(CompiledPath path) {
+        JsonElement element = get(path);
+        return element == null ? null : element.getAsJsonObject();
+    }
+}
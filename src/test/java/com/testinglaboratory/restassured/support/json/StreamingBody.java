@@ -0,0 +1,23 @@
+package com.testinglaboratory.restassured.support.json;
+
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Leaves the response body on the wire so it can be consumed with {@link Response#asInputStream()}
+ * instead of being buffered by the pooled client. The stream must be read or closed by the caller,
+ * which {@link JsonStreamInspector#inspect(Response)} does.
+ */
+public class StreamingBody implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        return RestAssuredConfigFactory.unbuffered(() -> ctx.next(requestSpec, responseSpec));
+    }
+}
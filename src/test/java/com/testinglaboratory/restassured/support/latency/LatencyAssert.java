@@ -0,0 +1,65 @@
+package com.testinglaboratory.restassured.support.latency;
+
+import org.assertj.core.api.AbstractAssert;
+
+import java.time.Duration;
+
+/**
+ * Assertions on the latency distribution of a {@link LatencySample}. Failure messages include the percentile table.
+ */
+public class LatencyAssert extends AbstractAssert<LatencyAssert, LatencySample> {
+
+    public LatencyAssert(LatencySample actual) {
+        super(actual, LatencyAssert.class);
+    }
+
+    public static LatencyAssert assertThatLatencyOf(LatencySample actual) {
+        return new LatencyAssert(actual);
+    }
+
+    /**
+     * Verifies that the given percentile (e.g. 99.0) of the sampled latencies is below the limit.
+     */
+    public LatencyAssert hasPercentileBelow(double percentile, Duration limit) {
+        isNotNull();
+        long value = actual.getHistogram().getValueAtPercentile(percentile);
+        if (value >= toMicros(limit)) {
+            failWithLatencies("p%s of %s to be below %s ms but was %.2f ms",
+                    percentile, actual.getName(), limit.toMillis(), value / 1000.0);
+        }
+        return this;
+    }
+
+    public LatencyAssert hasMedianBelow(Duration limit) {
+        return hasPercentileBelow(50.0, limit);
+    }
+
+    public LatencyAssert hasP99Below(Duration limit) {
+        return hasPercentileBelow(99.0, limit);
+    }
+
+    public LatencyAssert hasMaxBelow(Duration limit) {
+        isNotNull();
+        long max = actual.getHistogram().getMaxValue();
+        if (max >= toMicros(limit)) {
+            failWithLatencies("max of %s to be below %s ms but was %.2f ms",
+                    actual.getName(), limit.toMillis(), max / 1000.0);
+        }
+        return this;
+    }
+
+    private void failWithLatencies(String expectation, Object... arguments) {
+        failWithMessage("%nExpecting " + expectation + "%n%s", append(arguments, actual.toString().replace("%", "%%")));
+    }
+
+    private static Object[] append(Object[] arguments, Object last) {
+        Object[] all = new Object[arguments.length + 1];
+        System.arraycopy(arguments, 0, all, 0, arguments.length);
+        all[arguments.length] = last;
+        return all;
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1000;
+    }
+}
@@ -0,0 +1,22 @@
+package com.testinglaboratory.restassured.support.latency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Latencies of repeated calls to one endpoint, recorded in microseconds.
+ */
+@Getter
+@AllArgsConstructor
+public class LatencySample {
+    private final String name;
+    private final Histogram histogram;
+
+    @Override
+    public String toString() {
+        return PercentileTable.render(Map.of(name, histogram));
+    }
+}
@@ -0,0 +1,35 @@
+package com.testinglaboratory.restassured.support.latency;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls a request repeatedly and records how long each call took. Warm-up calls are made first and discarded,
+ * so class loading, JIT compilation and connection setup do not end up in the measured samples.
+ */
+public class LatencySampler {
+    private final int warmUpCalls;
+    private final int samples;
+
+    public LatencySampler(int warmUpCalls, int samples) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("At least one sample is needed but got " + samples);
+        }
+        this.warmUpCalls = warmUpCalls;
+        this.samples = samples;
+    }
+
+    public LatencySample sample(String name, Runnable request) {
+        for (int i = 0; i < warmUpCalls; i++) {
+            request.run();
+        }
+        Histogram histogram = new Histogram(3);
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            request.run();
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+        return new LatencySample(name, histogram);
+    }
+}
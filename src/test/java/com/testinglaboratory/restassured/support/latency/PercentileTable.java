@@ -0,0 +1,33 @@
+package com.testinglaboratory.restassured.support.latency;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Plain-text rendering of latency histograms recorded in microseconds.
+ */
+public final class PercentileTable {
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private PercentileTable() {
+    }
+
+    public static String render(Map<String, ? extends Histogram> histogramsByName) {
+        String nameColumn = "%-" + histogramsByName.keySet().stream().mapToInt(String::length).max().orElse(4) + "s";
+        StringBuilder table = new StringBuilder(String.format(nameColumn + " %8s %9s %9s %9s %9s %9s%n",
+                "name", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        histogramsByName.forEach((name, histogram) -> {
+            table.append(String.format(nameColumn + " %8d", name, histogram.getTotalCount()));
+            for (double percentile : PERCENTILES) {
+                table.append(String.format(" %9.2f", millis(histogram.getValueAtPercentile(percentile))));
+            }
+            table.append(String.format(" %9.2f%n", millis(histogram.getMaxValue())));
+        });
+        return table.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.testinglaboratory.restassured.support.load;
+
+import com.testinglaboratory.restassured.support.latency.PercentileTable;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a {@link ClosedModelLoadDriver} run: completed journeys, per-step latency histograms in microseconds
+ * and error counts. Journeys that had not finished when the driver stopped waiting, queued or running, count as failed.
+ */
+@Getter
+public class ClosedLoadReport {
+    private final int concurrency;
+    private final long completedJourneys;
+    private final long failedJourneys;
+    private final long abandonedJourneys;
+    private final Duration elapsed;
+    private final Map<String, Histogram> latencies = new TreeMap<>();
+    private final Map<String, Long> stepFailures = new TreeMap<>();
+
+    ClosedLoadReport(int concurrency, long completedJourneys, long failedJourneys, long abandonedJourneys,
+                     Duration elapsed, JourneySteps steps) {
+        this.concurrency = concurrency;
+        this.completedJourneys = completedJourneys;
+        this.failedJourneys = failedJourneys;
+        this.abandonedJourneys = abandonedJourneys;
+        this.elapsed = elapsed;
+        steps.latencies().forEach((step, recorder) -> latencies.put(step, recorder.getIntervalHistogram()));
+        steps.failures().forEach((step, failures) -> stepFailures.put(step, failures.sum()));
+    }
+
+    /**
+     * Journeys finished per second, failed ones included, over the whole run.
+     */
+    public double journeysPerSecond() {
+        return completedJourneys / (elapsed.toNanos() / 1e9);
+    }
+
+    public Histogram latency(String step) {
+        return latencies.get(step);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d journeys finished, %d failed%s, with %d in flight in %s, %.1f/s%n",
+                completedJourneys, failedJourneys,
+                abandonedJourneys == 0 ? "" : " (" + abandonedJourneys + " of them abandoned unfinished)",
+                concurrency, elapsed, journeysPerSecond())
+                + PercentileTable.render(latencies)
+                + (stepFailures.isEmpty() ? "" : "failed steps: " + stepFailures + System.lineSeparator());
+    }
+}
@@ -0,0 +1,75 @@
+package com.testinglaboratory.restassured.support.load;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a fixed number of journeys with a fixed number of them in flight (closed workload model):
+ * a new journey starts only when another one finished, so the completion rate is what the target sustains
+ * at that concurrency.
+ */
+@Slf4j
+public class ClosedModelLoadDriver {
+    private final int journeys;
+    private final int concurrency;
+    private final Duration timeout;
+
+    public ClosedModelLoadDriver(int journeys, int concurrency, Duration timeout) {
+        if (journeys <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException(
+                    "Journeys and concurrency must be positive but were " + journeys + " and " + concurrency);
+        }
+        this.journeys = journeys;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+    }
+
+    public ClosedLoadReport run(Journey journey) throws InterruptedException {
+        JourneySteps steps = new JourneySteps();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "session-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        LongAdder failedJourneys = new LongAdder();
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < journeys; i++) {
+            workers.execute(() -> {
+                started.incrementAndGet();
+                long startedNanos = System.nanoTime();
+                try {
+                    journey.run(steps);
+                } catch (RuntimeException | AssertionError e) {
+                    failedJourneys.increment();
+                    log.debug("Journey failed", e);
+                } finally {
+                    steps.record(OpenModelLoadDriver.JOURNEY, System.nanoTime() - startedNanos);
+                    finished.incrementAndGet();
+                }
+            });
+        }
+        workers.shutdown();
+        boolean drained = workers.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        // all taken before the interrupt below, so journeys failing because of it are not counted twice
+        long failed = failedJourneys.sum();
+        int completed = finished.get();
+        int abandoned = drained ? 0 : journeys - completed;
+        if (!drained) {
+            log.warn("{} journeys never started and {} still running after {}, abandoning them",
+                    journeys - started.get(), started.get() - completed, timeout);
+            workers.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new ClosedLoadReport(concurrency, completed, failed + abandoned, abandoned, elapsed, steps);
+    }
+}
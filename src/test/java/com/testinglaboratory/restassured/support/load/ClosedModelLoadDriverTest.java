@@ -0,0 +1,49 @@
+package com.testinglaboratory.restassured.support.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Journeys that outlast the driver's timeout, with no server involved.
+ */
+public class ClosedModelLoadDriverTest {
+    private static final int JOURNEYS = 10;
+
+    @Test
+    public void journeysNotFinishedAtTheTimeoutCountAsFailed() throws InterruptedException {
+        ClosedModelLoadDriver driver = new ClosedModelLoadDriver(JOURNEYS, 2, Duration.ofMillis(700));
+
+        ClosedLoadReport report = driver.run(steps -> steps.step("wait", () -> {
+            sleep(Duration.ofMillis(500));
+            return null;
+        }));
+
+        assertThat(report.getCompletedJourneys()).isLessThan(JOURNEYS);
+        assertThat(report.getAbandonedJourneys()).isEqualTo(JOURNEYS - report.getCompletedJourneys());
+        assertThat(report.getFailedJourneys()).isEqualTo(report.getAbandonedJourneys());
+        assertThat(report.toString()).contains("of them abandoned unfinished");
+    }
+
+    @Test
+    public void drainedRunAbandonsNothing() throws InterruptedException {
+        ClosedModelLoadDriver driver = new ClosedModelLoadDriver(JOURNEYS, 2, Duration.ofSeconds(30));
+
+        ClosedLoadReport report = driver.run(steps -> steps.step("quick", () -> null));
+
+        assertThat(report.getCompletedJourneys()).isEqualTo(JOURNEYS);
+        assertThat(report.getFailedJourneys()).isZero();
+        assertThat(report.getAbandonedJourneys()).isZero();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.testinglaboratory.restassured.support.load;
+
+/**
+ * A user journey replayed by {@link OpenModelLoadDriver}; every request it makes should be wrapped in a
+ * {@link JourneySteps#step(String, java.util.function.Supplier)} so its latency is recorded per step.
+ */
+@FunctionalInterface
+public interface Journey {
+    void run(JourneySteps steps);
+}
@@ -0,0 +1,46 @@
+package com.testinglaboratory.restassured.support.load;
+
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Times the steps of journeys. One instance is shared by all journeys of a load run;
+ * recording is wait-free so concurrent journeys do not contend on it.
+ */
+public class JourneySteps {
+    private final Map<String, Recorder> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    /**
+     * Runs one step of a journey and records how long it took, successful or not.
+     */
+    public <T> T step(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } catch (RuntimeException | AssertionError e) {
+            failures.computeIfAbsent(name, key -> new LongAdder()).increment();
+            throw e;
+        } finally {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    void record(String name, long elapsedNanos) {
+        latencies.computeIfAbsent(name, key -> new Recorder(3))
+                .recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    Map<String, Recorder> latencies() {
+        return latencies;
+    }
+
+    Map<String, LongAdder> failures() {
+        return failures;
+    }
+}
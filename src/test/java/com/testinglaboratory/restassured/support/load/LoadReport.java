@@ -0,0 +1,59 @@
+package com.testinglaboratory.restassured.support.load;
+
+import com.testinglaboratory.restassured.support.latency.PercentileTable;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of an {@link OpenModelLoadDriver} run: per-step latency histograms in microseconds and error counts.
+ * Journeys still running when the driver stopped waiting for them count as failed.
+ */
+@Getter
+public class LoadReport {
+    private final double targetRate;
+    private final long arrivals;
+    private final long failedJourneys;
+    private final long abandonedJourneys;
+    private final int maxInFlight;
+    private final Duration arrivalWindow;
+    private final Duration elapsed;
+    private final Map<String, Histogram> latencies = new TreeMap<>();
+    private final Map<String, Long> stepFailures = new TreeMap<>();
+
+    LoadReport(double targetRate, long arrivals, long failedJourneys, long abandonedJourneys, int maxInFlight,
+               Duration arrivalWindow, Duration elapsed, JourneySteps steps) {
+        this.targetRate = targetRate;
+        this.arrivals = arrivals;
+        this.failedJourneys = failedJourneys;
+        this.abandonedJourneys = abandonedJourneys;
+        this.maxInFlight = maxInFlight;
+        this.arrivalWindow = arrivalWindow;
+        this.elapsed = elapsed;
+        steps.latencies().forEach((step, recorder) -> latencies.put(step, recorder.getIntervalHistogram()));
+        steps.failures().forEach((step, failures) -> stepFailures.put(step, failures.sum()));
+    }
+
+    /**
+     * Journeys actually started per second while arrivals were being scheduled.
+     */
+    public double achievedRate() {
+        return arrivals / (arrivalWindow.toNanos() / 1e9);
+    }
+
+    public Histogram latency(String step) {
+        return latencies.get(step);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("target %.1f/s, achieved %.1f/s, %d journeys (%d failed%s), max %d in flight, drained after %s%n",
+                targetRate, achievedRate(), arrivals, failedJourneys,
+                abandonedJourneys == 0 ? "" : ", " + abandonedJourneys + " of them abandoned", maxInFlight, elapsed)
+                + PercentileTable.render(latencies)
+                + (stepFailures.isEmpty() ? "" : "failed steps: " + stepFailures + System.lineSeparator());
+    }
+}
@@ -0,0 +1,85 @@
+package com.testinglaboratory.restassured.support.load;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts journeys at a fixed arrival rate regardless of how long earlier journeys take (open workload model).
+ * A slow target therefore builds up concurrency instead of silently lowering the request rate,
+ * and the "journey" latency is measured from the intended start so scheduling delays are not hidden.
+ */
+@Slf4j
+public class OpenModelLoadDriver {
+    public static final String JOURNEY = "journey";
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final double arrivalsPerSecond;
+    private final Duration duration;
+
+    public OpenModelLoadDriver(double arrivalsPerSecond, Duration duration) {
+        if (arrivalsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive but was " + arrivalsPerSecond);
+        }
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.duration = duration;
+    }
+
+    public LoadReport run(Journey journey) throws InterruptedException {
+        JourneySteps steps = new JourneySteps();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "journey-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        LongAdder failedJourneys = new LongAdder();
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / arrivalsPerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long arrivals = 0;
+        for (long intended = start; intended < end; intended = start + arrivals * intervalNanos) {
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduled = intended;
+            workers.execute(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    journey.run(steps);
+                } catch (RuntimeException | AssertionError e) {
+                    failedJourneys.increment();
+                    log.debug("Journey failed", e);
+                } finally {
+                    steps.record(JOURNEY, System.nanoTime() - scheduled);
+                    inFlight.decrementAndGet();
+                }
+            });
+            arrivals++;
+        }
+        Duration arrivalWindow = Duration.ofNanos(System.nanoTime() - start);
+        workers.shutdown();
+        boolean drained = workers.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        // both taken before the interrupt below, so journeys failing because of it are not counted twice
+        long failed = failedJourneys.sum();
+        int abandoned = drained ? 0 : inFlight.get();
+        if (!drained) {
+            log.warn("{} journeys still running after {}, abandoning them", abandoned, DRAIN_TIMEOUT);
+            workers.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new LoadReport(arrivalsPerSecond, arrivals, failed + abandoned, abandoned, maxInFlight.get(),
+                arrivalWindow, elapsed, steps);
+    }
+}
@@ -0,0 +1,117 @@
+package com.testinglaboratory.restassured.support.metrics;
+
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import com.testinglaboratory.restassured.support.jfr.HttpExchangeEvent;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Records latency, bytes sent and received and status codes per method and path template,
+ * e.g. {@code GET /human/{humanId}}. Literal numeric segments count as {@code {id}} so /human/1 and /human/2
+ * end up together. Every thread writes to its own shard, so recording never contends; shards are merged when
+ * a report is asked for and when the test plan has finished, when {@link EndpointMetricsListener} writes it to
+ * endpoint-metrics.json and endpoint-metrics.txt in -Dmetrics.dir (default target).
+ * Response bytes are the declared Content-Length, or else what the pooled client counted while reading the body,
+ * so the filter never reads a body the test does not.
+ * During a flight recording every exchange is also emitted as an {@link HttpExchangeEvent}.
+ * <p>
+ * Added to every target specification by {@link com.testinglaboratory.restassured.support.target.ChallengeTarget}.
+ */
+@Slf4j
+public class EndpointMetricsFilter implements Filter {
+    public static final String DIRECTORY_PROPERTY = "metrics.dir";
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("(?<=/)-?\\d+(?=/|$)");
+    private static final ConcurrentLinkedQueue<Map<String, EndpointStats>> shards = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Map<String, EndpointStats>> shard = ThreadLocal.withInitial(() -> {
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        shards.add(stats);
+        return stats;
+    });
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = requestSpec.getMethod() + " " + template(requestSpec);
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        event.begin();
+        long receivedBefore = RestAssuredConfigFactory.bytesReceivedByCurrentThread();
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        event.end();
+        long sent = requestBytes(requestSpec);
+        long received = responseBytes(response,
+                RestAssuredConfigFactory.bytesReceivedByCurrentThread() - receivedBefore);
+        shard.get().computeIfAbsent(endpoint, key -> new EndpointStats())
+                .record(micros, sent, received, response.statusCode());
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.uri = requestSpec.getURI();
+            event.status = response.statusCode();
+            event.requestBytes = sent;
+            event.responseBytes = received;
+            event.commit();
+        }
+        return response;
+    }
+
+    /**
+     * Totals over all threads so far.
+     */
+    public static EndpointReport report() {
+        Map<String, EndpointReport.Endpoint> totals = new TreeMap<>();
+        for (Map<String, EndpointStats> stats : shards) {
+            stats.forEach((endpoint, measured) ->
+                    measured.addTo(totals.computeIfAbsent(endpoint, EndpointReport.Endpoint::new)));
+        }
+        return new EndpointReport(totals);
+    }
+
+    private static String template(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getBasePath() + requestSpec.getUserDefinedPath();
+        return NUMERIC_SEGMENT.matcher(path).replaceAll("{id}");
+    }
+
+    private static long requestBytes(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return body == null ? 0 : body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    // without a declared length, a streamed body counts only as far as it has been read when the filter returns
+    private static long responseBytes(Response response, long counted) {
+        String length = response.getHeader("Content-Length");
+        return length == null ? counted : Long.parseLong(length);
+    }
+
+    @SneakyThrows
+    static void writeReport() {
+        EndpointReport report = report();
+        if (report.isEmpty()) {
+            return;
+        }
+        Path directory = Path.of(System.getProperty(DIRECTORY_PROPERTY, "target"));
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("endpoint-metrics.json"), report.toJson());
+        Files.writeString(directory.resolve("endpoint-metrics.txt"), report.toString());
+        log.info("Endpoint metrics written to {}:\n{}", directory.toAbsolutePath(), report);
+    }
+}
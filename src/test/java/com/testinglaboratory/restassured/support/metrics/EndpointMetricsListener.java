@@ -0,0 +1,17 @@
+package com.testinglaboratory.restassured.support.metrics;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Writes the {@link EndpointMetricsFilter} report once the test plan has finished.
+ * <p>
+ * Registered through META-INF/services, so it is active for every suite.
+ */
+public class EndpointMetricsListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        EndpointMetricsFilter.writeReport();
+    }
+}
@@ -0,0 +1,87 @@
+package com.testinglaboratory.restassured.support.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.testinglaboratory.restassured.support.latency.PercentileTable;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Totals per endpoint over all threads, busiest first (by the sum of their latencies).
+ */
+public class EndpointReport {
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0};
+
+    private final List<Endpoint> endpoints;
+
+    EndpointReport(Map<String, Endpoint> totals) {
+        endpoints = new ArrayList<>(totals.values());
+        endpoints.sort(Comparator.comparingLong(Endpoint::totalMicros).reversed());
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    public String toJson() {
+        JsonArray array = new JsonArray();
+        for (Endpoint endpoint : endpoints) {
+            JsonObject json = new JsonObject();
+            json.addProperty("endpoint", endpoint.name);
+            json.addProperty("requests", endpoint.requests);
+            json.addProperty("totalMillis", endpoint.totalMicros() / 1000.0);
+            JsonObject latency = new JsonObject();
+            for (double percentile : PERCENTILES) {
+                latency.addProperty("p" + (int) percentile, endpoint.latency.getValueAtPercentile(percentile) / 1000.0);
+            }
+            latency.addProperty("max", endpoint.latency.getMaxValue() / 1000.0);
+            json.add("latencyMillis", latency);
+            json.addProperty("requestBytes", endpoint.requestBytes);
+            json.addProperty("responseBytes", endpoint.responseBytes);
+            JsonObject statuses = new JsonObject();
+            endpoint.statuses.forEach((status, count) -> statuses.addProperty(String.valueOf(status), count));
+            json.add("statuses", statuses);
+            array.add(json);
+        }
+        return new GsonBuilder().setPrettyPrinting().create().toJson(array);
+    }
+
+    @Override
+    public String toString() {
+        Map<String, Histogram> latencies = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> latencies.put(endpoint.name, endpoint.latency));
+        StringBuilder text = new StringBuilder(PercentileTable.render(latencies)).append(System.lineSeparator());
+        int width = Math.max(8, endpoints.stream().mapToInt(endpoint -> endpoint.name.length()).max().orElse(0));
+        text.append(String.format("%-" + width + "s %10s %12s %12s  %s%n",
+                "endpoint", "total ms", "sent B", "received B", "statuses"));
+        for (Endpoint endpoint : endpoints) {
+            text.append(String.format("%-" + width + "s %10.1f %12d %12d  %s%n", endpoint.name,
+                    endpoint.totalMicros() / 1000.0, endpoint.requestBytes, endpoint.responseBytes, endpoint.statuses));
+        }
+        return text.toString();
+    }
+
+    static final class Endpoint {
+        final String name;
+        final Histogram latency = new Histogram(3);
+        final Map<Integer, Long> statuses = new TreeMap<>();
+        long requests;
+        long requestBytes;
+        long responseBytes;
+
+        Endpoint(String name) {
+            this.name = name;
+        }
+
+        long totalMicros() {
+            return (long) (latency.getMean() * latency.getTotalCount());
+        }
+    }
+}
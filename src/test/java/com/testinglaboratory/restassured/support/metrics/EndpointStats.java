@@ -0,0 +1,43 @@
+package com.testinglaboratory.restassured.support.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measurements of one endpoint made by one thread. Only the owning thread writes, so counters are bumped
+ * with lazySet instead of atomic read-modify-write, and the latency recorder is wait-free for its writer.
+ * Readers take what was recorded since their last visit and keep it in {@code recorded}.
+ */
+class EndpointStats {
+    private final Recorder latency = new Recorder(3);
+    private final Histogram recorded = new Histogram(3);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+
+    void record(long micros, long sent, long received, int status) {
+        latency.recordValue(micros);
+        requests.lazySet(requests.get() + 1);
+        requestBytes.lazySet(requestBytes.get() + sent);
+        responseBytes.lazySet(responseBytes.get() + received);
+        AtomicLong count = statuses.computeIfAbsent(status, key -> new AtomicLong());
+        count.lazySet(count.get() + 1);
+    }
+
+    /**
+     * Adds everything this thread recorded so far to the totals; may be called from any thread.
+     */
+    synchronized void addTo(EndpointReport.Endpoint totals) {
+        recorded.add(latency.getIntervalHistogram());
+        totals.latency.add(recorded);
+        totals.requests += requests.get();
+        totals.requestBytes += requestBytes.get();
+        totals.responseBytes += responseBytes.get();
+        statuses.forEach((status, count) -> totals.statuses.merge(status, count.get(), Long::sum));
+    }
+}
@@ -0,0 +1,257 @@
+package com.testinglaboratory.restassured.support.scan;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Sends a GET for every id of a range to a path with one placeholder, several at a time but never faster than
+ * the given rate. Each result is written to a tab-separated file as soon as it arrives
+ * (id, status, body class, latency in microseconds); only counts and a few example ids per group stay in memory,
+ * so a sweep of a million ids needs no more heap than one of ten.
+ * <pre>
+ * ScanSummary flags = IdRangeScanner.over(primer, "/flag/{id}")
+ *         .rate(200)
+ *         .concurrency(8)
+ *         .scan(0, 1_000_000, Path.of("target/scans/flags.tsv"));
+ * </pre>
+ * By default the body class is the sorted member names of a JSON object, e.g. {@code {flag,status}}.
+ */
+@Slf4j
+public class IdRangeScanner {
+    private static final int EXAMPLES_PER_GROUP = 5;
+    private static final int MAX_GROUPS = 1000;
+    private static final String END_OF_RESULTS = "";
+    private static final long HAND_OVER_POLL_MILLIS = 100;
+
+    private final RequestSpecification spec;
+    private final String path;
+    private double ratePerSecond = 100;
+    private int concurrency = 4;
+    private Function<Response, String> bodyClassifier = response -> memberNames(response.asByteArray());
+
+    private IdRangeScanner(RequestSpecification spec, String path) {
+        this.spec = spec;
+        this.path = path;
+    }
+
+    public static IdRangeScanner over(RequestSpecification spec, String path) {
+        return new IdRangeScanner(spec, path);
+    }
+
+    public IdRangeScanner rate(double requestsPerSecond) {
+        this.ratePerSecond = requestsPerSecond;
+        return this;
+    }
+
+    public IdRangeScanner concurrency(int requestsInFlight) {
+        this.concurrency = requestsInFlight;
+        return this;
+    }
+
+    /**
+     * Replaces the default body class; keep the number of distinct classes small, they are all counted in memory.
+     */
+    public IdRangeScanner classifyBody(Function<Response, String> classifier) {
+        this.bodyClassifier = classifier;
+        return this;
+    }
+
+    /**
+     * Scans ids from {@code from} (inclusive) to {@code to} (exclusive) and blocks until all of them answered.
+     */
+    @SneakyThrows
+    public ScanSummary scan(long from, long to, Path results) {
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        Scan scan = new Scan(from, to);
+        TokenBucket bucket = new TokenBucket(ratePerSecond, concurrency);
+        BlockingQueue<String> lines = new ArrayBlockingQueue<>(8192);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency + 1, runnable -> {
+            Thread thread = new Thread(runnable, "scanner-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(results, StandardCharsets.UTF_8)) {
+            Future<?> writing = workers.submit(() -> write(lines, writer));
+            List<Future<?>> scanning = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                scanning.add(workers.submit(() -> scan.run(bucket, lines, writing)));
+            }
+            try {
+                for (Future<?> worker : scanning) {
+                    worker.get();
+                }
+            } finally {
+                handOver(lines, END_OF_RESULTS, writing);
+                writing.get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } finally {
+            workers.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return scan.summary(elapsed, results);
+    }
+
+    @SneakyThrows
+    private static Void write(BlockingQueue<String> lines, BufferedWriter writer) {
+        writer.write("id\tstatus\tclass\tmicros");
+        writer.newLine();
+        for (String line = lines.take(); !END_OF_RESULTS.equals(line); line = lines.take()) {
+            writer.write(line);
+            writer.newLine();
+        }
+        return null;
+    }
+
+    /**
+     * Queues a line for the writer without ever waiting on a writer that has stopped: once it failed, its failure is
+     * thrown here, so neither the workers nor {@link #scan} block on a full queue nobody drains.
+     */
+    private static void handOver(BlockingQueue<String> lines, String line, Future<?> writing)
+            throws InterruptedException, ExecutionException {
+        do {
+            if (writing.isDone()) {
+                writing.get();
+                throw new IllegalStateException("Results writer stopped before the scan ended");
+            }
+        } while (!lines.offer(line, HAND_OVER_POLL_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private class Scan {
+        private final AtomicLong nextId;
+        private final long to;
+        private final LongAdder failed = new LongAdder();
+        private final AtomicInteger groups = new AtomicInteger();
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+        private final Map<String, List<Long>> examples = new ConcurrentHashMap<>();
+
+        Scan(long from, long to) {
+            this.nextId = new AtomicLong(from);
+            this.to = to;
+        }
+
+        @SneakyThrows
+        void run(TokenBucket bucket, BlockingQueue<String> lines, Future<?> writing) {
+            while (!Thread.currentThread().isInterrupted()) {
+                bucket.acquire();
+                long id = nextId.getAndIncrement();
+                if (id >= to) {
+                    return;
+                }
+                long sent = System.nanoTime();
+                String status;
+                String bodyClass;
+                try {
+                    Response response = given(spec).get(path, id);
+                    status = String.valueOf(response.statusCode());
+                    bodyClass = bodyClassifier.apply(response);
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    status = "error";
+                    bodyClass = e.getClass().getSimpleName();
+                }
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent);
+                count(status + " " + bodyClass, id);
+                handOver(lines, id + "\t" + status + "\t" + bodyClass + "\t" + micros, writing);
+            }
+        }
+
+        private void count(String group, long id) {
+            // a new group is admitted inside computeIfAbsent, so concurrent first ids cannot push past the limit
+            LongAdder count = counts.computeIfAbsent(group, key -> admitGroup() ? new LongAdder() : null);
+            if (count == null) {
+                group = "other";
+                count = counts.computeIfAbsent(group, key -> new LongAdder());
+            }
+            count.increment();
+            List<Long> ids = examples.computeIfAbsent(group, key -> new ArrayList<>());
+            synchronized (ids) {
+                if (ids.size() < EXAMPLES_PER_GROUP) {
+                    ids.add(id);
+                }
+            }
+        }
+
+        private boolean admitGroup() {
+            int admitted;
+            do {
+                admitted = groups.get();
+                if (admitted >= MAX_GROUPS) {
+                    return false;
+                }
+            } while (!groups.compareAndSet(admitted, admitted + 1));
+            return true;
+        }
+
+        ScanSummary summary(Duration elapsed, Path results) {
+            Map<String, Long> totals = new TreeMap<>();
+            counts.forEach((group, count) -> totals.put(group, count.sum()));
+            Map<String, List<Long>> firstIds = new TreeMap<>();
+            examples.forEach((group, ids) -> {
+                synchronized (ids) {
+                    List<Long> sorted = new ArrayList<>(ids);
+                    sorted.sort(null);
+                    firstIds.put(group, sorted);
+                }
+            });
+            long scanned = totals.values().stream().mapToLong(Long::longValue).sum();
+            return new ScanSummary(scanned, failed.sum(), elapsed, results, totals, firstIds);
+        }
+    }
+
+    static String memberNames(byte[] body) {
+        if (body.length == 0) {
+            return "empty";
+        }
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(body),
+                StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return "json " + reader.peek().name().toLowerCase();
+            }
+            TreeSet<String> names = new TreeSet<>();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                names.add(reader.nextName());
+                reader.skipValue();
+            }
+            return "{" + String.join(",", names) + "}";
+        } catch (IOException | IllegalStateException e) {
+            return "not json";
+        }
+    }
+}
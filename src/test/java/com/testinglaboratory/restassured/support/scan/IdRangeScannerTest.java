@@ -0,0 +1,70 @@
+package com.testinglaboratory.restassured.support.scan;
+
+import com.testinglaboratory.restassured.primer.stub.PrimerStubServer;
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sweeps the flags of the embedded {@link PrimerStubServer}, which knows flags 1 and 6 and answers 404 for every
+ * other id.
+ */
+public class IdRangeScannerTest {
+    private static final int IDS = 100;
+
+    @TempDir
+    Path scans;
+
+    @Test
+    public void everyIdIsCountedAndWritten() throws IOException {
+        RequestSpecification primer = given()
+                .config(RestAssuredConfigFactory.pooled())
+                .baseUri(PrimerStubServer.instance().baseUri())
+                .basePath(PrimerStubServer.BASE_PATH);
+        Path results = scans.resolve("flags.tsv");
+
+        ScanSummary summary = IdRangeScanner.over(primer, "/flag/{flagId}")
+                .rate(10_000)
+                .concurrency(8)
+                .scan(0, IDS, results);
+
+        assertThat(summary.getScanned()).isEqualTo(IDS);
+        assertThat(summary.getFailed()).isZero();
+        assertThat(summary.getCounts()).containsOnlyKeys("200 {flag,status}", "404 {flag,status}");
+        assertThat(summary.count("200 {flag,status}")).isEqualTo(2);
+        assertThat(summary.count("404 {flag,status}")).isEqualTo(IDS - 2);
+        assertThat(summary.getExamples().get("200 {flag,status}")).containsExactly(1L, 6L);
+
+        List<String> lines = Files.readAllLines(results, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(IDS + 1);
+        assertThat(lines.get(0)).isEqualTo("id\tstatus\tclass\tmicros");
+        assertThat(lines.subList(1, lines.size()))
+                .filteredOn(line -> line.startsWith("6\t"))
+                .singleElement()
+                .asString()
+                .startsWith("6\t200\t{flag,status}\t");
+    }
+
+    @Test
+    public void bodiesAreClassifiedByTheirMemberNames() {
+        assertThat(IdRangeScanner.memberNames(bytes("{\"status\":404,\"flag\":\"Nope\"}"))).isEqualTo("{flag,status}");
+        assertThat(IdRangeScanner.memberNames(bytes("{}"))).isEqualTo("{}");
+        assertThat(IdRangeScanner.memberNames(bytes("[1,2]"))).isEqualTo("json begin_array");
+        assertThat(IdRangeScanner.memberNames(bytes("Not Found"))).isEqualTo("not json");
+        assertThat(IdRangeScanner.memberNames(new byte[0])).isEqualTo("empty");
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,52 @@
+package com.testinglaboratory.restassured.support.scan;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of an {@link IdRangeScanner} run. Ids are grouped by status code and body class
+ * (e.g. {@code "404 {flag,status}"}); each group keeps its size and its first few ids.
+ * Every single result is in the file at {@link #getResults()}.
+ */
+@Getter
+public class ScanSummary {
+    private final long scanned;
+    private final long failed;
+    private final Duration elapsed;
+    private final Path results;
+    private final Map<String, Long> counts;
+    private final Map<String, List<Long>> examples;
+
+    ScanSummary(long scanned, long failed, Duration elapsed, Path results,
+                Map<String, Long> counts, Map<String, List<Long>> examples) {
+        this.scanned = scanned;
+        this.failed = failed;
+        this.elapsed = elapsed;
+        this.results = results;
+        this.counts = Collections.unmodifiableMap(counts);
+        this.examples = Collections.unmodifiableMap(examples);
+    }
+
+    public long count(String group) {
+        return counts.getOrDefault(group, 0L);
+    }
+
+    public double idsPerSecond() {
+        return scanned / (elapsed.toNanos() / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder(String.format("%d ids (%d failed) in %s, %.1f/s, results in %s%n",
+                scanned, failed, elapsed, idsPerSecond(), results));
+        int width = counts.keySet().stream().mapToInt(String::length).max().orElse(5);
+        counts.forEach((group, count) -> summary.append(String.format("%-" + width + "s %10d  e.g. %s%n",
+                group, count, examples.get(group))));
+        return summary.toString();
+    }
+}
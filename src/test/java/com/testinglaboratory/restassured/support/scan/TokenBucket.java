@@ -0,0 +1,47 @@
+package com.testinglaboratory.restassured.support.scan;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lets through at most {@code permitsPerSecond} callers per second on average, with bursts of up to {@code burst}.
+ * Callers that find the bucket empty reserve the next permit and park until it is due,
+ * so waiting threads are served in the order they arrived.
+ */
+public class TokenBucket {
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private long nextFreeNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException(
+                    "Rate and burst must be positive but were " + permitsPerSecond + " and " + burst);
+        }
+        this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = nanosPerPermit * burst;
+        this.nextFreeNanos = System.nanoTime() - burstNanos;
+    }
+
+    /**
+     * Blocks until a permit is available.
+     */
+    public void acquire() {
+        long due = reserve();
+        long wait;
+        while ((wait = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Interrupted while waiting for a permit");
+            }
+        }
+    }
+
+    // permits not used while idle accumulate, but never more than the burst
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long due = Math.max(nextFreeNanos, now - burstNanos);
+        nextFreeNanos = due + nanosPerPermit;
+        return due;
+    }
+}
@@ -0,0 +1,46 @@
+package com.testinglaboratory.restassured.support.scan;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TokenBucketTest {
+    private static final int RATE = 200;
+    private static final int BURST = 5;
+
+    @Test
+    public void burstIsServedRightAway() {
+        TokenBucket bucket = new TokenBucket(RATE, BURST);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BURST; i++) {
+            bucket.acquire();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(50);
+    }
+
+    @Test
+    public void permitsBeyondTheBurstArriveAtTheRate() {
+        TokenBucket bucket = new TokenBucket(RATE, BURST);
+        int permits = BURST + 20;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < permits; i++) {
+            bucket.acquire();
+        }
+
+        // the burst and the permit due right away are free, each of the other 19 waits 5 ms
+        long expectedMillis = (permits - BURST - 1) * 1000L / RATE;
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(expectedMillis - 5);
+    }
+
+    @Test
+    public void rateAndBurstMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TokenBucket(0, BURST));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TokenBucket(RATE, 0));
+    }
+}
@@ -0,0 +1,178 @@
+package com.testinglaboratory.restassured.support.session;
+
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static io.restassured.RestAssured.given;
+import static org.apache.http.HttpStatus.SC_ACCEPTED;
+import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
+import static org.hamcrest.Matchers.containsString;
+
+/**
+ * Login cookies per user, so tests of restricted resources log in once instead of before every request.
+ * A session is refreshed when it is older than -Dsession.ttl seconds (default 300) or when the server answers 401.
+ * Every login is checked like a test would: 202 Accepted and a body naming the user.
+ * Concurrent requests for the same user's session wait for a single login, which runs outside of any map operation
+ * so logging in one user never holds up lookups of another.
+ */
+@Slf4j
+public class SessionCache {
+    public static final String TTL_PROPERTY = "session.ttl";
+
+    private static final Map<ChallengeTarget, SessionCache> caches = new ConcurrentHashMap<>();
+
+    private final RequestSpecification spec;
+    private final long ttlNanos;
+    private final ConcurrentMap<String, CompletableFuture<Session>> sessions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder logins = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public SessionCache(RequestSpecification spec) {
+        this(spec, Duration.ofSeconds(Long.getLong(TTL_PROPERTY, 300)));
+    }
+
+    SessionCache(RequestSpecification spec, Duration ttl) {
+        this.spec = spec;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public static SessionCache of(ChallengeTarget target) {
+        return caches.computeIfAbsent(target, key -> new SessionCache(key.specification()));
+    }
+
+    /**
+     * Cookies of a live session of the user, logging in first if there is none.
+     */
+    public Map<String, String> cookies(Identity user) {
+        return session(user).cookies;
+    }
+
+    /**
+     * Sends a request with the user's session cookies. If the server rejects the session with 401
+     * the user logs in again and the request is repeated once.
+     */
+    public Response authenticated(Identity user, Function<Map<String, String>, Response> request) {
+        Session session = session(user);
+        Response response = request.apply(session.cookies);
+        if (response.statusCode() != SC_UNAUTHORIZED) {
+            return response;
+        }
+        rejected.increment();
+        drop(user, session.cookies);
+        return request.apply(session(user).cookies);
+    }
+
+    /**
+     * Drops the user's session if it still has these cookies, so the next request logs in again. A session that
+     * another thread has already replaced is kept.
+     */
+    public void invalidate(Identity user, Map<String, String> cookies) {
+        rejected.increment();
+        drop(user, cookies);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d sessions, %d hits, %d logins, %d rejected",
+                sessions.size(), hits.sum(), logins.sum(), rejected.sum());
+    }
+
+    private Session session(Identity user) {
+        String username = user.getUsername();
+        while (true) {
+            CompletableFuture<Session> current = sessions.get(username);
+            if (current != null && !isStale(current)) {
+                hits.increment();
+                return await(current);
+            }
+            CompletableFuture<Session> pending = new CompletableFuture<>();
+            boolean claimed = current == null
+                    ? sessions.putIfAbsent(username, pending) == null
+                    : sessions.replace(username, current, pending);
+            if (claimed) {
+                return login(user, pending);
+            }
+            // another thread started a login in the meantime, wait for that one
+        }
+    }
+
+    private void drop(Identity user, Map<String, String> cookies) {
+        CompletableFuture<Session> current = sessions.get(user.getUsername());
+        Session session = current == null ? null : current.getNow(null);
+        if (session != null && session.cookies.equals(cookies)) {
+            sessions.remove(user.getUsername(), current);
+        }
+    }
+
+    private Session login(Identity user, CompletableFuture<Session> pending) {
+        try {
+            Session session = login(user);
+            pending.complete(session);
+            return session;
+        } catch (RuntimeException | Error e) {
+            sessions.remove(user.getUsername(), pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static boolean isStale(CompletableFuture<Session> session) {
+        return session.isCompletedExceptionally() || session.isDone() && session.join().isExpired();
+    }
+
+    private static Session await(CompletableFuture<Session> session) {
+        try {
+            return session.join();
+        } catch (CompletionException e) {
+            // the login of the thread this one waited for failed, report the same failure here
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private Session login(Identity user) {
+        logins.increment();
+        Map<String, String> cookies = given(spec)
+                .contentType(ContentType.JSON)
+                .body(user.credentials().toString())
+                .when()
+                .post("/login")
+                .then()
+                .statusCode(SC_ACCEPTED)
+                .body(containsString(user.getUsername()))
+                .extract()
+                .cookies();
+        log.debug("Logged in {}, {}", user.getUsername(), this);
+        return new Session(Map.copyOf(cookies), System.nanoTime() + ttlNanos);
+    }
+
+    private static final class Session {
+        private final Map<String, String> cookies;
+        private final long expiresAtNanos;
+
+        private Session(Map<String, String> cookies, long expiresAtNanos) {
+            this.cookies = cookies;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.testinglaboratory.restassured.support.session;
+
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Logins counted by a local server that hands out a session cookie on /login and only serves /restricted
+ * to a session it still knows.
+ */
+public class SessionCacheTest {
+    private static final int THREADS = 16;
+    private static final long LOGIN_MILLIS = 100;
+
+    private static final AtomicInteger logins = new AtomicInteger();
+    private static final AtomicInteger restrictedRequests = new AtomicInteger();
+    private static final Set<String> liveSessions = ConcurrentHashMap.newKeySet();
+
+    private static HttpServer server;
+    private static ExecutorService serverThreads;
+    private static RequestSpecification spec;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        serverThreads = Executors.newFixedThreadPool(THREADS);
+        server.setExecutor(serverThreads);
+        server.createContext("/login", SessionCacheTest::login);
+        server.createContext("/restricted", SessionCacheTest::restricted);
+        server.start();
+        spec = given()
+                .config(RestAssuredConfigFactory.pooled())
+                .baseUri("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @BeforeEach
+    public void resetCounts() {
+        logins.set(0);
+        restrictedRequests.set(0);
+    }
+
+    @Test
+    public void concurrentFirstAccessLogsInOnce() throws Exception {
+        SessionCache sessions = new SessionCache(spec);
+        Identity user = IdentityPool.next();
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                statuses.add(clients.submit(() -> {
+                    start.await();
+                    return sessions.authenticated(user, restricted()).statusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        assertThat(logins).hasValue(1);
+        assertThat(restrictedRequests).hasValue(THREADS);
+    }
+
+    @Test
+    public void expiredSessionLogsInAgain() throws InterruptedException {
+        SessionCache sessions = new SessionCache(spec, Duration.ofMillis(200));
+        Identity user = IdentityPool.next();
+
+        sessions.authenticated(user, restricted()).then().statusCode(200);
+        sessions.authenticated(user, restricted()).then().statusCode(200);
+        assertThat(logins).hasValue(1);
+
+        Thread.sleep(300);
+        sessions.authenticated(user, restricted()).then().statusCode(200);
+        assertThat(logins).hasValue(2);
+    }
+
+    @Test
+    public void rejectedSessionIsRetriedOnceAfterANewLogin() {
+        SessionCache sessions = new SessionCache(spec);
+        Identity user = IdentityPool.next();
+        sessions.authenticated(user, restricted()).then().statusCode(200);
+
+        // the server forgets the session, e.g. after a restart
+        liveSessions.clear();
+        sessions.authenticated(user, restricted()).then().statusCode(200);
+
+        assertThat(logins).hasValue(2);
+        assertThat(restrictedRequests).hasValue(3);
+    }
+
+    @Test
+    public void requestIsNotRetriedMoreThanOnce() {
+        SessionCache sessions = new SessionCache(spec);
+        Identity user = IdentityPool.next();
+
+        sessions.authenticated(user, cookies -> given(spec).get("/restricted"))
+                .then()
+                .statusCode(401);
+
+        assertThat(logins).hasValue(2);
+        assertThat(restrictedRequests).hasValue(2);
+    }
+
+    @Test
+    public void invalidatingAnOlderSessionKeepsTheCurrentOne() {
+        SessionCache sessions = new SessionCache(spec);
+        Identity user = IdentityPool.next();
+        Map<String, String> first = sessions.cookies(user);
+        sessions.invalidate(user, first);
+        Map<String, String> second = sessions.cookies(user);
+
+        // a rejection of the first session that arrives late must not drop the second one
+        sessions.invalidate(user, first);
+
+        assertThat(sessions.cookies(user)).isSameAs(second);
+        assertThat(logins).hasValue(2);
+    }
+
+    private static Function<Map<String, String>, Response> restricted() {
+        return cookies -> given(spec).cookies(cookies).get("/restricted");
+    }
+
+    private static void login(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // a slow login keeps the first one in flight while the other clients ask for the session
+            sleep(LOGIN_MILLIS);
+            String username = JsonParser.parseReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))
+                    .getAsJsonObject().get("username").getAsString();
+            logins.incrementAndGet();
+            String session = UUID.randomUUID().toString();
+            liveSessions.add(session);
+            exchange.getResponseHeaders().add("Set-Cookie", "session=" + session);
+            send(exchange, 202, "{\"message\":\"User " + username + " logged in\"}");
+        }
+    }
+
+    private static void restricted(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            restrictedRequests.incrementAndGet();
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            boolean live = cookie != null && cookie.startsWith("session=")
+                    && liveSessions.contains(cookie.substring("session=".length()));
+            send(exchange, live ? 200 : 401, live ? "{\"secret\":\"granted\"}" : "{\"detail\":\"Not logged in\"}");
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
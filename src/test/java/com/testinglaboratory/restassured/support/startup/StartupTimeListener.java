@@ -0,0 +1,90 @@
+package com.testinglaboratory.restassured.support.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Logs how long the test JVM took from launch to the first test and how many classes it had loaded by then,
+ * tagged with the class-data-sharing mode the fork runs in (see the cds-train and cds profiles).
+ * With -Dstartup.report=file every measurement is appended there as a tab separated line and the latest one
+ * of each mode is logged side by side, so a run with the archive can be compared with one without it.
+ * <p>
+ * Registered through META-INF/services, so it is active for every suite.
+ */
+@Slf4j
+public class StartupTimeListener implements TestExecutionListener {
+    public static final String REPORT_PROPERTY = "startup.report";
+
+    private final AtomicReference<String> pendingMessage = new AtomicReference<>();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        long loadedClasses = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+        String mode = mode(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        StringBuilder message = new StringBuilder(String.format(
+                "Test JVM started in %d ms with %d classes loaded (class data sharing: %s)",
+                uptimeMillis, loadedClasses, mode));
+        String report = System.getProperty(REPORT_PROPERTY);
+        if (report != null && !report.isBlank()) {
+            record(Path.of(report), String.join("\t", Instant.now().toString(), mode,
+                    Long.toString(uptimeMillis), Long.toString(loadedClasses)), message);
+        }
+        pendingMessage.set(message.toString());
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        // surefire drops output that does not belong to a test, so the numbers are logged with the first one
+        if (testIdentifier.isTest()) {
+            String message = pendingMessage.getAndSet(null);
+            if (message != null) {
+                log.info(message);
+            }
+        }
+    }
+
+    static String mode(List<String> jvmArguments) {
+        for (String argument : jvmArguments) {
+            if (argument.startsWith("-XX:ArchiveClassesAtExit")) {
+                return "training";
+            }
+            if (argument.startsWith("-XX:SharedArchiveFile")) {
+                return "archive";
+            }
+        }
+        return "default";
+    }
+
+    private static void record(Path report, String line, StringBuilder message) {
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            Files.writeString(report, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            Map<String, String> latest = new TreeMap<>();
+            for (String recorded : Files.readAllLines(report, StandardCharsets.UTF_8)) {
+                String[] columns = recorded.split("\t");
+                if (columns.length == 4) {
+                    latest.put(columns[1], columns[2] + " ms, " + columns[3] + " classes");
+                }
+            }
+            message.append(", latest per mode in ").append(report).append(": ").append(latest);
+        } catch (IOException e) {
+            log.warn("Could not record startup time in {}", report, e);
+        }
+    }
+}
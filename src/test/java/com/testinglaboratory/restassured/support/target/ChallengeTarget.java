@@ -0,0 +1,50 @@
+package com.testinglaboratory.restassured.support.target;
+
+import com.testinglaboratory.restassured.primer.PrimerEnvironment;
+import com.testinglaboratory.restassured.reactor.ReactorEnvironment;
+import com.testinglaboratory.restassured.support.capture.ExchangeCaptureFilter;
+import com.testinglaboratory.restassured.support.cassette.CassetteFilter;
+import com.testinglaboratory.restassured.support.http.RestAssuredConfigFactory;
+import com.testinglaboratory.restassured.support.metrics.EndpointMetricsFilter;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.function.Supplier;
+
+/**
+ * Applications exercised by the suites. Base URIs of the foundations and reactor apps
+ * can be overridden with -Dfoundations.baseUri and -Dreactor.baseUri; primer and reactor default to
+ * in-process stand-ins.
+ */
+public enum ChallengeTarget {
+    FOUNDATIONS(() -> System.getProperty("foundations.baseUri", "http://localhost:8080"), "", null),
+    PRIMER(PrimerEnvironment::baseUri, PrimerEnvironment.BASE_PATH, "application/json; charset=utf-8"),
+    REACTOR(ReactorEnvironment::baseUri, ReactorEnvironment.BASE_PATH, "application/json; charset=utf-8");
+
+    private final Supplier<String> baseUri;
+    private final String basePath;
+    private final String contentType;
+
+    ChallengeTarget(Supplier<String> baseUri, String basePath, String contentType) {
+        this.baseUri = baseUri;
+        this.basePath = basePath;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Builds the request defaults for this target without touching RestAssured's static configuration.
+     */
+    public RequestSpecification specification() {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUri.get())
+                .setBasePath(basePath)
+                .setConfig(RestAssuredConfigFactory.pooled())
+                .addFilter(new EndpointMetricsFilter())
+                .addFilter(new ExchangeCaptureFilter());
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        CassetteFilter.forTarget(name()).ifPresent(builder::addFilter);
+        return builder.build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.testinglaboratory.restassured.support.target;
+
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Resolves {@link RequestSpecification} parameters for classes annotated with {@link RestAssuredTarget}.
+ * The target specification is built once per JVM; every resolved parameter is a fresh copy of it,
+ * so test classes can run in parallel without sharing mutable request state.
+ */
+public class RequestSpecificationExtension implements ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(RequestSpecificationExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == RequestSpecification.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        ChallengeTarget target = AnnotationSupport
+                .findAnnotation(extensionContext.getRequiredTestClass(), RestAssuredTarget.class)
+                .map(RestAssuredTarget::value)
+                .orElseThrow(() -> new ExtensionConfigurationException(
+                        extensionContext.getRequiredTestClass() + " is not annotated with @RestAssuredTarget"));
+        RequestSpecification template = extensionContext.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(target, ChallengeTarget::specification, RequestSpecification.class);
+        return given().spec(template);
+    }
+}
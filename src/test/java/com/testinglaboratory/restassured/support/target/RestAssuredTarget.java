@@ -0,0 +1,35 @@
+package com.testinglaboratory.restassured.support.target;
+
+import com.testinglaboratory.restassured.support.capture.FailureLogExtension;
+import com.testinglaboratory.restassured.support.users.UserLeaseExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which application a test class talks to. A {@link io.restassured.specification.RequestSpecification}
+ * for that target can then be declared as a constructor, lifecycle or test method parameter
+ * and used with {@code given(spec)} instead of assigning RestAssured statics.
+ * Exchanges made through that specification are logged only when a test fails, see {@link FailureLogExtension}.
+ * An {@link com.testinglaboratory.restassured.support.identity.Identity} parameter receives a user already registered
+ * in the target, see {@link UserLeaseExtension}.
+ * <p>
+ * Target classes hold a READ lock on {@link #REST_ASSURED_GLOBALS}; a test that assigns RestAssured statics
+ * (baseURI, filters, config...) must take it with READ_WRITE so it runs alone when tests are executed in parallel.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@ExtendWith({RequestSpecificationExtension.class, FailureLogExtension.class, UserLeaseExtension.class})
+@ResourceLock(value = RestAssuredTarget.REST_ASSURED_GLOBALS, mode = ResourceAccessMode.READ)
+public @interface RestAssuredTarget {
+    String REST_ASSURED_GLOBALS = "io.restassured.RestAssured";
+
+    ChallengeTarget value();
+}
@@ -0,0 +1,53 @@
+package com.testinglaboratory.restassured.support.users;
+
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import com.testinglaboratory.restassured.support.target.RestAssuredTarget;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Resolves {@link Identity} parameters with a user already registered in the class's {@link RestAssuredTarget}.
+ * The user is leased from the target's {@link UserPool} and returned when the scope that asked for it ends:
+ * after the test for test method parameters, after the class for {@code @BeforeAll} parameters.
+ */
+public class UserLeaseExtension implements ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(UserLeaseExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == Identity.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        ChallengeTarget target = AnnotationSupport
+                .findAnnotation(extensionContext.getRequiredTestClass(), RestAssuredTarget.class)
+                .map(RestAssuredTarget::value)
+                .orElseThrow(() -> new ExtensionConfigurationException(
+                        extensionContext.getRequiredTestClass() + " is not annotated with @RestAssuredTarget"));
+        UserPool pool = extensionContext.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(target, UserPool::new, UserPool.class);
+        Lease lease = new Lease(pool, pool.lease());
+        extensionContext.getStore(NAMESPACE).put(lease, lease);
+        return lease.user;
+    }
+
+    private static final class Lease implements ExtensionContext.Store.CloseableResource {
+        private final UserPool pool;
+        private final Identity user;
+
+        private Lease(UserPool pool, Identity user) {
+            this.pool = pool;
+            this.user = user;
+        }
+
+        @Override
+        public void close() {
+            pool.release(user);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.testinglaboratory.restassured.support.users;
+
+import com.testinglaboratory.restassured.support.identity.Identity;
+import com.testinglaboratory.restassured.support.identity.IdentityPool;
+import com.testinglaboratory.restassured.support.latency.PercentileTable;
+import com.testinglaboratory.restassured.support.target.ChallengeTarget;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Users registered up front in one target application and lent to tests one at a time.
+ * Registration of the whole pool starts as soon as the pool is created and runs concurrently;
+ * a lease is granted as soon as any user is ready, so tests do not wait for the whole pool.
+ * <p>
+ * Configurable with -Dusers.pool.size (default 8), -Dusers.pool.concurrency (default 8)
+ * and -Dusers.pool.leaseTimeout in seconds (default 30).
+ * Provisioning time and lease waits are logged when the pool is closed at the end of the run.
+ */
+@Slf4j
+public class UserPool implements ExtensionContext.Store.CloseableResource {
+    public static final String SIZE_PROPERTY = "users.pool.size";
+    public static final String CONCURRENCY_PROPERTY = "users.pool.concurrency";
+    public static final String LEASE_TIMEOUT_PROPERTY = "users.pool.leaseTimeout";
+
+    private final ChallengeTarget target;
+    private final int size;
+    private final BlockingQueue<Identity> available = new LinkedBlockingQueue<>();
+    private final CountDownLatch provisioned;
+    private final AtomicInteger failedRegistrations = new AtomicInteger();
+    private final AtomicLong provisioningNanos = new AtomicLong();
+    private final Recorder registrations = new Recorder(3);
+    private final Recorder leaseWaits = new Recorder(3);
+    private final ExecutorService registrars;
+
+    public UserPool(ChallengeTarget target) {
+        this.target = target;
+        this.size = Integer.getInteger(SIZE_PROPERTY, 8);
+        this.provisioned = new CountDownLatch(size);
+        this.registrars = Executors.newFixedThreadPool(Integer.getInteger(CONCURRENCY_PROPERTY, 8), runnable -> {
+            Thread thread = new Thread(runnable, "user-pool-" + target.name().toLowerCase());
+            thread.setDaemon(true);
+            return thread;
+        });
+        provision();
+    }
+
+    /**
+     * Takes a registered user for exclusive use; it must be handed back with {@link #release(Identity)}.
+     */
+    public Identity lease() {
+        long start = System.nanoTime();
+        try {
+            Identity user = available.poll(Integer.getInteger(LEASE_TIMEOUT_PROPERTY, 30), TimeUnit.SECONDS);
+            if (user == null) {
+                throw new IllegalStateException(String.format(
+                        "No %s user became available; %d of %d registrations failed",
+                        target, failedRegistrations.get(), size));
+            }
+            return user;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + target + " user", e);
+        } finally {
+            leaseWaits.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    public void release(Identity user) {
+        available.add(user);
+    }
+
+    /**
+     * Wall-clock time from creating the pool until every registration finished, or null while still provisioning.
+     */
+    public Duration provisioningTime() {
+        return provisioned.getCount() == 0 ? Duration.ofNanos(provisioningNanos.get()) : null;
+    }
+
+    @Override
+    public void close() {
+        registrars.shutdownNow();
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        histograms.put("register", registrations.getIntervalHistogram());
+        histograms.put("lease wait", leaseWaits.getIntervalHistogram());
+        log.info("{} user pool: {} users provisioned in {} ms, {} registrations failed{}{}",
+                target, size - failedRegistrations.get(), TimeUnit.NANOSECONDS.toMillis(provisioningNanos.get()),
+                failedRegistrations.get(), System.lineSeparator(), PercentileTable.render(histograms));
+    }
+
+    private void provision() {
+        long start = System.nanoTime();
+        RequestSpecification spec = target.specification();
+        for (int i = 0; i < size; i++) {
+            registrars.execute(() -> {
+                Identity user = IdentityPool.next();
+                long registrationStart = System.nanoTime();
+                try {
+                    given(spec)
+                            .contentType(ContentType.JSON)
+                            .body(user.credentials().toString())
+                            .post("/register")
+                            .then()
+                            .statusCode(201);
+                    available.add(user);
+                } catch (RuntimeException | AssertionError e) {
+                    failedRegistrations.incrementAndGet();
+                    log.warn("Could not register {} user {}", target, user.getUsername(), e);
+                } finally {
+                    long now = System.nanoTime();
+                    registrations.recordValue(TimeUnit.NANOSECONDS.toMicros(now - registrationStart));
+                    provisioningNanos.accumulateAndGet(now - start, Math::max);
+                    provisioned.countDown();
+                }
+            });
+        }
+    }
+}
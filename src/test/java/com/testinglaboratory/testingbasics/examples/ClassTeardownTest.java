@@ -8,8 +8,10 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ResourceLock(TheIncrementor.LOCK)
 public class ClassTeardownTest {
     @BeforeAll
     public static void setUpInitialValue(){
@@ -1,6 +1,9 @@
 package com.testinglaboratory.testingbasics.examples;
 
 public class TheIncrementor {
+    //Key of the @ResourceLock taken by every test class that uses the incrementor,
+    //so they never run at the same time when tests are executed in parallel
+    public static final String LOCK = "TheIncrementor";
 
     public static Integer getValue() {
         return value;
@@ -15,6 +15,8 @@ package org.assertj.examples;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.util.DateUtil.parse;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.examples.SharedFixtures.ASSERTJ_CONFIGURATION;
+import static org.assertj.examples.SharedFixtures.BASKETBALL_PLAYERS;
 import static org.assertj.examples.data.Race.DWARF;
 import static org.assertj.examples.data.Race.ELF;
 import static org.assertj.examples.data.Race.HOBBIT;
@@ -27,6 +29,7 @@ import static org.assertj.examples.data.Ring.narya;
 import static org.assertj.examples.data.Ring.nenya;
 import static org.assertj.examples.data.Ring.oneRing;
 import static org.assertj.examples.data.Ring.vilya;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -52,6 +55,7 @@ import org.assertj.examples.data.TolkienCharacter;
 import org.assertj.examples.data.movie.Movie;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +65,8 @@ import org.slf4j.LoggerFactory;
  *
  * @author Joel Costigliola
  */
+@ResourceLock(value = ASSERTJ_CONFIGURATION, mode = READ)
+@ResourceLock(value = BASKETBALL_PLAYERS, mode = READ)
 public abstract class AbstractAssertionsExamples {
 
   {
@@ -137,8 +143,13 @@ public abstract class AbstractAssertionsExamples {
   protected static PotentialMvpCondition potentialMvp;
   protected static Condition<BasketBallPlayer> doubleDoubleStats;
 
+  // the players are shared by every example class, they are built once so classes running in parallel see the same ones;
+  // a test changing one of them takes the BASKETBALL_PLAYERS lock and puts it back as it was
   @BeforeAll
-  public static void setUpOnce() {
+  public static synchronized void setUpOnce() {
+    // every class starts with the default, whatever the class before it configured
+    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(false);
+    if (basketBallPlayers != null) return;
     rose = new BasketBallPlayer(new Name("Derrick", "Rose"), "Cavs");
     rose.setAssistsPerGame(8);
     rose.setPointsPerGame(25);
@@ -186,8 +197,6 @@ public abstract class AbstractAssertionsExamples {
         return false;
       }
     };
-
-    Assertions.setRemoveAssertJRelatedElementsFromStackTrace(false);
   }
 
   @BeforeEach
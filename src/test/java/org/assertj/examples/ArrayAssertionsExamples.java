@@ -46,12 +46,14 @@ import org.assertj.examples.data.Ring;
 import org.assertj.examples.data.TolkienCharacter;
 import org.assertj.examples.data.movie.Movie;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * Array assertions examples.
  *
  * @author Joel Costigliola
  */
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class ArrayAssertionsExamples extends AbstractAssertionsExamples {
 
   @Test
@@ -37,12 +37,14 @@ import java.util.TimeZone;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * Date assertions examples.<br>
  *
  * @author Joel Costigliola
  */
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class DateAssertionsExamples extends AbstractAssertionsExamples {
 
   @Test
@@ -22,7 +22,9 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.description.Description;
 import org.assertj.examples.data.TolkienCharacter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class DescriptionConsumerExample extends AbstractAssertionsExamples {
 
   // the data used are initialized in AbstractAssertionsExamples.
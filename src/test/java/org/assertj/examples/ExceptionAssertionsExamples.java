@@ -29,12 +29,14 @@ import java.io.IOException;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * Exception assertions examples.
  *
  * @author Joel Costigliola
  */
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class ExceptionAssertionsExamples extends AbstractAssertionsExamples {
 
   @Test
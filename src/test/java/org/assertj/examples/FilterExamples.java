@@ -30,12 +30,14 @@ import org.assertj.examples.data.BasketBallPlayer;
 import org.assertj.examples.data.TolkienCharacter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * Iterable (including Collection) assertions examples.<br>
  *
  * @author Joel Costigliola
  */
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class FilterExamples extends AbstractAssertionsExamples {
   protected Employee yoda;
   protected Employee obiwan;
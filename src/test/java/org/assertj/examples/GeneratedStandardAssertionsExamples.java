@@ -14,9 +14,12 @@ package org.assertj.examples;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Date;
 
+import org.assertj.examples.data.BasketBallPlayer;
 import org.assertj.examples.data.Book;
 import org.assertj.examples.data.Book.Title;
 import org.assertj.examples.data.Name;
@@ -71,4 +74,28 @@ public class GeneratedStandardAssertionsExamples extends AbstractAssertionsExamp
     assertThat(new Book("Death Notes")).hasTitle(new Title("Death Notes"));
   }
 
+  @Test
+  public void generated_primitive_property_assertions_example() {
+    // primitive properties are compared without boxing, see my_has_assertion_template_for_*.txt
+    BasketBallPlayer player = new BasketBallPlayer(new Name("Joakim", "Noah"), "Bulls");
+    player.setPointsPerGame(10);
+    player.setWeight(108.5f);
+    player.size = 2.11;
+    assertThat(player).hasPointsPerGame(10)
+                      .hasWeight(108.5f)
+                      .hasSize(2.11)
+                      .hasSizeCloseTo(2.1, 0.01)
+                      .hasWeightCloseTo(110f, 1.5f);
+
+    player.size = Double.NaN;
+    assertThat(player).hasSizeCloseTo(Double.NaN, 0.0);
+
+    assertThatThrownBy(() -> assertThat(player).hasWeightCloseTo(100f, 1f)).isInstanceOf(AssertionError.class)
+                                                                             .hasMessageContaining("to be close to:\n  <100.0>")
+                                                                             .hasMessageContaining("difference was <8.5>");
+    assertThatThrownBy(() -> assertThat(player).hasPointsPerGame(11)).isInstanceOf(AssertionError.class)
+                                                                     .hasMessageContaining("Expecting pointsPerGame of:");
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThat(player).hasWeightCloseTo(108f, -1f));
+  }
+
 }
@@ -63,12 +63,14 @@ import org.assertj.examples.data.Race;
 import org.assertj.examples.data.Ring;
 import org.assertj.examples.data.TolkienCharacter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * Iterable (including Collection) assertions examples.<br>
  *
  * @author Joel Costigliola
  */
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class IterableAssertionsExamples extends AbstractAssertionsExamples {
 
   @Test
@@ -19,7 +19,9 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.After;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class RepresentationExamples extends AbstractAssertionsExamples {
 
   private static final CustomRepresentation CUSTOM_REPRESENTATION = new CustomRepresentation();
@@ -0,0 +1,45 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples;
+
+/**
+ * Keys of the {@link org.junit.jupiter.api.parallel.ResourceLock}s guarding state shared between example classes
+ * when they run in parallel (see junit-platform.properties).
+ * Classes that only read the state take a READ lock, classes that change it take READ_WRITE.
+ */
+public final class SharedFixtures {
+
+  /**
+   * AssertJ's static configuration: representation, date formats, private field extraction...
+   */
+  public static final String ASSERTJ_CONFIGURATION = "assertj.configuration";
+
+  /**
+   * The basketball players of {@link AbstractAssertionsExamples}.
+   */
+  public static final String BASKETBALL_PLAYERS = "assertj.examples.basketball-players";
+
+  /**
+   * The in-memory H2 database of {@link org.assertj.examples.db.AbstractAssertionsExamples}, whose tables are
+   * dropped and created again before each test.
+   */
+  public static final String H2 = "assertj.examples.h2";
+
+  /**
+   * The impermanent Neo4j graph of {@link org.assertj.examples.neo4j.Neo4jAssertionExamples}.
+   */
+  public static final String NEO4J = "assertj.examples.neo4j";
+
+  private SharedFixtures() {
+  }
+}
@@ -47,7 +47,9 @@ import org.assertj.examples.data.Employee;
 import org.assertj.examples.data.Ring;
 import org.assertj.examples.data.TolkienCharacter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
+@ResourceLock(SharedFixtures.ASSERTJ_CONFIGURATION)
 public class StreamAssertionsExamples extends AbstractAssertionsExamples {
 
   @Test
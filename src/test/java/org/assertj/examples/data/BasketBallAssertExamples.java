@@ -13,8 +13,10 @@
 package org.assertj.examples.data;
 
 import org.assertj.examples.AbstractAssertionsExamples;
+import org.assertj.examples.SharedFixtures;
 import org.assertj.examples.exception.NameException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  *
@@ -37,9 +39,18 @@ public class BasketBallAssertExamples extends AbstractAssertionsExamples {
   }
 
   @Test
+  @ResourceLock(SharedFixtures.BASKETBALL_PLAYERS) // changes rose's size and weight
   public void basketBallPlayer_real_number_assertion() {
+    double size = rose.size;
+    float weight = rose.getWeight();
     rose.size = 6.3;
     rose.setWeight(189.5f);
-    BasketBallPlayerAssert.assertThat(rose).hasSizeCloseTo(6.2, 0.1).hasWeightCloseTo(189, 0.51f);
+    try {
+      BasketBallPlayerAssert.assertThat(rose).hasSizeCloseTo(6.2, 0.1).hasWeightCloseTo(189, 0.51f);
+    } finally {
+      // rose is shared with every other example class
+      rose.size = size;
+      rose.setWeight(weight);
+    }
   }
 }
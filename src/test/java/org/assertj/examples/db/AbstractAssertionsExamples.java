@@ -15,8 +15,10 @@ package org.assertj.examples.db;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import org.assertj.examples.SharedFixtures;
 import org.h2.jdbcx.JdbcConnectionPool;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  *
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
  *
  * @author Régis Pouiller
  */
+@ResourceLock(SharedFixtures.H2)
 public class AbstractAssertionsExamples {
 
   protected static JdbcConnectionPool dataSource;
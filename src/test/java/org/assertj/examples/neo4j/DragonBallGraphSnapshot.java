@@ -0,0 +1,145 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.factory.GraphDatabaseSettings;
+import org.neo4j.io.fs.FileUtils;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+/**
+ * The Dragon Ball graph of dragonBall.cypher, imported once into a store directory under target/neo4j-snapshots
+ * (-Dneo4j.snapshot.dir) that later runs open read-only instead of replaying the script. The directory name carries a
+ * hash of the script, the Neo4j version and the scale, so changing any of them builds a new snapshot.
+ * <p>
+ * -Dneo4j.snapshot.scale=n adds about n generated characters, in groups of a master and nine disciples that are not
+ * connected to the Dragon Ball characters, to run the examples against a much larger graph.
+ */
+final class DragonBallGraphSnapshot {
+
+  static final String DIRECTORY_PROPERTY = "neo4j.snapshot.dir";
+  static final String SCALE_PROPERTY = "neo4j.snapshot.scale";
+
+  private static final String SCRIPT = "/dragonBall.cypher";
+  private static final int GENERATED_CHARACTERS_PER_TRANSACTION = 10_000;
+
+  private DragonBallGraphSnapshot() {}
+
+  static GraphDatabaseService open() {
+    return new TestGraphDatabaseFactory().newEmbeddedDatabaseBuilder(store(Integer.getInteger(SCALE_PROPERTY, 0)))
+                                         .setConfig(GraphDatabaseSettings.read_only, "true")
+                                         .newGraphDatabase();
+  }
+
+  static synchronized File store(int scale) {
+    String script = script();
+    File store = new File(System.getProperty(DIRECTORY_PROPERTY, "target/neo4j-snapshots"),
+                          format("dragonBall-%s-x%d", fingerprint(script), scale));
+    if (!store.isDirectory()) {
+      build(store, script, scale);
+    }
+    return store;
+  }
+
+  private static void build(File store, String script, int scale) {
+    File staging = new File(store.getParentFile(), store.getName() + "-" + UUID.randomUUID());
+    GraphDatabaseService graphDatabase = new TestGraphDatabaseFactory().newEmbeddedDatabase(staging);
+    try {
+      try (Transaction transaction = graphDatabase.beginTx()) {
+        cypherStatements(script).forEach(graphDatabase::execute);
+        transaction.success();
+      }
+      generateCharacters(graphDatabase, scale);
+    } finally {
+      graphDatabase.shutdown();
+    }
+    try {
+      Files.move(staging.toPath(), store.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      if (!store.isDirectory()) {
+        throw new RuntimeException(e.getMessage(), e);
+      }
+      // another test JVM built the same snapshot in the meantime
+      deleteQuietly(staging);
+    }
+  }
+
+  private static void generateCharacters(GraphDatabaseService graphDatabase, int scale) {
+    for (int from = 0; from < scale; from += GENERATED_CHARACTERS_PER_TRANSACTION) {
+      int to = Math.min(from + GENERATED_CHARACTERS_PER_TRANSACTION, scale) - 1;
+      try (Transaction transaction = graphDatabase.beginTx()) {
+        graphDatabase.execute("UNWIND range({from}, {to}, 10) AS m "
+                              + "CREATE (master:Character:Master:Generated {name: 'Generated master ' + m}) "
+                              + "FOREACH (d IN range(m + 1, m + 9) | "
+                              + "CREATE (:Character:Generated {name: 'Generated disciple ' + d})"
+                              + "-[:HAS_TRAINED_WITH]->(master))",
+                              Map.of("from", from, "to", to))
+                     .close();
+        transaction.success();
+      }
+    }
+  }
+
+  private static String script() {
+    try (InputStream dumpFile = DragonBallGraphSnapshot.class.getResourceAsStream(SCRIPT)) {
+      return new String(dumpFile.readAllBytes(), UTF_8);
+    } catch (IOException e) {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+  }
+
+  private static Collection<String> cypherStatements(String script) {
+    String statements = script.lines().filter(line -> !line.isEmpty()).collect(Collectors.joining("\n"));
+    return Arrays.asList(statements.split(";"));
+  }
+
+  private static String fingerprint(String script) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(script.getBytes(UTF_8));
+      digest.update(String.valueOf(GraphDatabaseService.class.getPackage().getImplementationVersion()).getBytes(UTF_8));
+      StringBuilder hex = new StringBuilder();
+      for (byte b : Arrays.copyOf(digest.digest(), 6)) {
+        hex.append(format("%02x", b));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void deleteQuietly(File directory) {
+    try {
+      FileUtils.deleteRecursively(directory);
+    } catch (IOException e) {
+      // left behind under target, removed by the next clean
+    }
+  }
+}
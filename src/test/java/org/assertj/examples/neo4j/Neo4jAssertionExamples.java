@@ -12,22 +12,14 @@
  */
 package org.assertj.examples.neo4j;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-
+import org.assertj.examples.SharedFixtures;
 import org.assertj.examples.data.neo4j.DragonBallGraphRepository;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.neo4j.graphdb.GraphDatabaseService;
-import org.neo4j.graphdb.Transaction;
-import org.neo4j.test.TestGraphDatabaseFactory;
 
+@ResourceLock(SharedFixtures.NEO4J)
 public class Neo4jAssertionExamples {
 
   private static GraphDatabaseService graphDatabase;
@@ -35,8 +27,7 @@ public class Neo4jAssertionExamples {
 
   @BeforeAll
   public static void prepare_graph() {
-    graphDatabase = new TestGraphDatabaseFactory().newImpermanentDatabase();
-    importGraph(graphDatabase);
+    graphDatabase = DragonBallGraphSnapshot.open();
     dragonBallGraphRepository = new DragonBallGraphRepository(graphDatabase);
   }
 
@@ -52,23 +43,4 @@ public class Neo4jAssertionExamples {
   static DragonBallGraphRepository dragonBallGraphRepository() {
     return dragonBallGraphRepository;
   }
-
-  private static void importGraph(GraphDatabaseService graphDatabase) {
-    try (InputStream dumpFile = Neo4jAssertionExamples.class.getResourceAsStream("/dragonBall.cypher");
-        Transaction transaction = graphDatabase.beginTx()) {
-
-      cypherStatements(dumpFile).forEach(graphDatabase::execute);
-      transaction.success();
-    } catch (IOException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
-  }
-
-  private static Collection<String> cypherStatements(InputStream inputStream) throws IOException {
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-      Predicate<String> isEmpty = String::isEmpty;
-      String statements = reader.lines().filter(isEmpty.negate()).collect(Collectors.joining("\n"));
-      return Arrays.asList(statements.split(";"));
-    }
-  }
 }